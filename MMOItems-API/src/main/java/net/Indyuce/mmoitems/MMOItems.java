@@ -39,6 +39,7 @@ import net.Indyuce.mmoitems.inventory.PlayerInventoryManager;
 import net.Indyuce.mmoitems.inventory.provided.MMOInventorySupplier;
 import net.Indyuce.mmoitems.inventory.provided.OrnamentInventorySupplier;
 import net.Indyuce.mmoitems.inventory.provided.VanillaInventorySupplier;
+import net.Indyuce.mmoitems.listener.TemplateReloadListener;
 import net.Indyuce.mmoitems.manager.*;
 import net.Indyuce.mmoitems.manager.data.PlayerDataManager;
 import net.Indyuce.mmoitems.manager.data.YAMLDatabaseImpl;
@@ -156,6 +157,7 @@ public class MMOItems extends MMOPlugin {
         skillManager.initialize(false);
 
         playerDataManager.setupDatabase(new YAMLDatabaseImpl());
+        stationRecipeManager.setupQueueStorage();
 
         final int configVersion = getConfig().contains("config-version", true) ? getConfig().getInt("config-version") : -1;
         final int defConfigVersion = getConfig().getDefaults().getInt("config-version");
@@ -206,6 +208,7 @@ public class MMOItems extends MMOPlugin {
         MMOItemReforger.reload();
 
         Bukkit.getPluginManager().registerEvents(dropTableManager, this);
+        Bukkit.getPluginManager().registerEvents(new TemplateReloadListener(), this);
 
         // Load MMOCore-Bukkit module
         try {
@@ -284,6 +287,8 @@ public class MMOItems extends MMOPlugin {
 
         // Save player data
         playerDataManager.close();
+        stationRecipeManager.closeQueueStorage();
+        dropTableManager.close();
 
         // Drop abandoned items
         DeathItemsHandler.getActive().forEach(DeathItemsHandler::dropItems);
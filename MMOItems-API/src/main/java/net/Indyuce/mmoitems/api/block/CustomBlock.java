@@ -6,6 +6,7 @@ import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
 import net.Indyuce.mmoitems.api.util.MushroomState;
 import net.Indyuce.mmoitems.stat.data.BooleanData;
 import net.Indyuce.mmoitems.stat.data.DoubleData;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
@@ -14,6 +15,7 @@ import java.util.Random;
 public class CustomBlock {
     private final int id;
     private final MushroomState state;
+    private final BlockData blockData;
 
     private final MMOItem mmoitem;
 
@@ -29,6 +31,7 @@ public class CustomBlock {
 
         this.id = mmoitem.hasData(ItemStats.BLOCK_ID) ? (int) ((DoubleData) mmoitem.getData(ItemStats.BLOCK_ID)).getValue() : 0;
         this.state = state;
+        this.blockData = state.getBlockData();
 
         this.minExp = mmoitem.hasData(ItemStats.MIN_XP) ? (int) ((DoubleData) mmoitem.getData(ItemStats.MIN_XP)).getValue() : 0;
         this.maxExp = mmoitem.hasData(ItemStats.MAX_XP) ? (int) ((DoubleData) mmoitem.getData(ItemStats.MAX_XP)).getValue() : 0;
@@ -45,6 +48,14 @@ public class CustomBlock {
         return state;
     }
 
+    /**
+     * @return Cached block data of that custom block. It is shared, so
+     *         it must be cloned before being edited
+     */
+    public BlockData getBlockData() {
+        return blockData;
+    }
+
     public boolean hasGenTemplate() {
         return template != null;
     }
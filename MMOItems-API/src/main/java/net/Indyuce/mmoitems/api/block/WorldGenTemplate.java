@@ -8,23 +8,31 @@ import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.generator.LimitedRegion;
+import org.bukkit.generator.WorldInfo;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 public class WorldGenTemplate {
     private final String id;
     private final double chunkChance;
     private final int minDepth, maxDepth, veinSize, veinCount;
 
-    private final List<Material> replaceable = new ArrayList<>();
+    private final Set<Material> replaceable = EnumSet.noneOf(Material.class);
     private final List<Material> bordering = new ArrayList<>();
     private final List<Material> notBordering = new ArrayList<>();
     private final List<String> worldWhitelist = new ArrayList<>(), worldBlacklist = new ArrayList<>();
     private final List<String> biomeWhitelist = new ArrayList<>(), biomeBlacklist = new ArrayList<>();
     private final boolean slimeChunk;
 
+    /**
+     * Offsets of all the block faces, used by bordering checks
+     */
+    private static final int[][] FACE_OFFSETS = Arrays.stream(BlockFace.values())
+            .map(face -> new int[]{face.getModX(), face.getModY(), face.getModZ()})
+            .toArray(int[][]::new);
+
     public WorldGenTemplate(ConfigurationSection config) {
         Validate.notNull(config, "Could not read gen template config");
 
@@ -111,6 +119,60 @@ public class WorldGenTemplate {
         return true;
     }
 
+    /**
+     * Same as {@link #canGenerate(Location)} but only reads blocks from
+     * the limited region given to block populators, which is the only
+     * thing populators are allowed to access. Blocks outside of the
+     * region are considered to not match bordering requirements.
+     *
+     * @param worldInfo World being generated
+     * @param region    Region being populated
+     * @param x         Block X coordinate
+     * @param y         Block Y coordinate
+     * @param z         Block Z coordinate
+     * @return If a vein can start at this position
+     */
+    public boolean canGenerate(@NotNull WorldInfo worldInfo, @NotNull LimitedRegion region, int x, int y, int z) {
+
+        // check biome list
+        if (!biomeWhitelist.isEmpty() || !biomeBlacklist.isEmpty()) {
+            final String biome = VersionUtils.name(region.getBiome(x, y, z));
+            if ((!biomeWhitelist.isEmpty() && !biomeWhitelist.contains(biome))
+                    || (!biomeBlacklist.isEmpty() && biomeBlacklist.contains(biome)))
+                return false;
+        }
+
+        // check extra options
+        if (slimeChunk && !isSlimeChunk(worldInfo.getSeed(), x >> 4, z >> 4))
+            return false;
+
+        if (!bordering.isEmpty())
+            for (int[] offset : FACE_OFFSETS) {
+                final int bx = x + offset[0], by = y + offset[1], bz = z + offset[2];
+                if (!region.isInRegion(bx, by, bz) || !canBorder(region.getType(bx, by, bz)))
+                    return false;
+            }
+
+        if (!notBordering.isEmpty())
+            for (int[] offset : FACE_OFFSETS) {
+                final int bx = x + offset[0], by = y + offset[1], bz = z + offset[2];
+                if (!region.isInRegion(bx, by, bz) || !canNotBorder(region.getType(bx, by, bz)))
+                    return false;
+            }
+
+        // can generate if no restrictions applied
+        return true;
+    }
+
+    /**
+     * Vanilla slime chunk formula, which does not require
+     * the chunk to be loaded.
+     */
+    private static boolean isSlimeChunk(long seed, int chunkX, int chunkZ) {
+        return new Random(seed + (long) (chunkX * chunkX * 0x4c1906) + (long) (chunkX * 0x5ac0db)
+                + (long) (chunkZ * chunkZ) * 0x4307a7L + (long) (chunkZ * 0x5f24f) ^ 0x3ad8025fL).nextInt(10) == 0;
+    }
+
     public boolean canReplace(Material type) {
         return replaceable.isEmpty() || replaceable.contains(type);
     }
@@ -0,0 +1,94 @@
+package net.Indyuce.mmoitems.api.crafting;
+
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.crafting.CraftingStatus.CraftingQueue;
+import net.Indyuce.mmoitems.api.crafting.CraftingStatus.CraftingQueue.QueueItem;
+import net.Indyuce.mmoitems.api.crafting.recipe.CraftingRecipe;
+import net.Indyuce.mmoitems.api.player.PlayerData;
+import net.Indyuce.mmoitems.api.util.message.Message;
+import net.Indyuce.mmoitems.util.MMOUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * 制作完成通知调度器
+ * <p>
+ * 所有玩家的排队物品按完成时间放入同一个小顶堆，由单个定时任务检查堆顶，
+ * 物品完成时通知在线玩家，无需玩家打开工作站界面轮询剩余时间。
+ * </p>
+ * <p>
+ * 物品被领取、取消或完成时间提前时不会主动从堆中删除，而是在出堆时
+ * 校验是否仍有效（惰性删除）；完成时间提前时会重新入堆一条新记录。
+ * </p>
+ */
+public class CraftingCompletionScheduler {
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.completion));
+
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * @param period 检查间隔（tick）
+     */
+    public void start(long period) {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(MMOItems.plugin, this::tick, period, period);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    public synchronized void schedule(@NotNull PlayerData playerData, @NotNull CraftingQueue queue, @NotNull QueueItem item) {
+        if (task == null) return;
+
+        entries.add(new Entry(playerData, queue, item, item.getCompletion()));
+    }
+
+    private synchronized void tick() {
+        final long now = System.currentTimeMillis();
+        Entry entry;
+        while ((entry = entries.peek()) != null && entry.completion <= now) {
+            entries.poll();
+
+            // 已被领取/取消，或完成时间已变化（对应的新记录仍在堆中）
+            if (entry.item.getCompletion() != entry.completion || !entry.queue.getCrafts().contains(entry.item)) continue;
+            if (!entry.playerData.isOnline()) continue;
+
+            final CraftingStation station = entry.queue.getStation();
+            final CraftingRecipe recipe = station == null ? null : entry.item.getRecipe();
+            if (recipe == null) continue;
+
+            Message.CRAFTING_QUEUE_READY.format(ChatColor.YELLOW,
+                    "#item#", MMOUtils.getDisplayName(recipe.getPreviewItemStack()),
+                    "#station#", station.getName()).send(entry.playerData.getPlayer());
+        }
+    }
+
+    private static class Entry {
+        private final PlayerData playerData;
+        private final CraftingQueue queue;
+        private final QueueItem item;
+        private final long completion;
+
+        private Entry(PlayerData playerData, CraftingQueue queue, QueueItem item, long completion) {
+            this.playerData = playerData;
+            this.queue = queue;
+            this.item = item;
+            this.completion = completion;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.crafting.CraftingStatus.CraftingQueue.QueueItem;
 import net.Indyuce.mmoitems.api.crafting.recipe.CraftingRecipe;
 import net.Indyuce.mmoitems.api.crafting.recipe.Recipe;
+import net.Indyuce.mmoitems.api.crafting.storage.CraftingQueueStorage;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
@@ -28,14 +29,32 @@ public class CraftingStatus {
     }
 
     public CraftingQueue getQueue(@NotNull CraftingStation station) {
-        return queues.computeIfAbsent(station, CraftingQueue::new);
+        return queues.computeIfAbsent(station, key -> new CraftingQueue(this, key));
+    }
+
+    @NotNull
+    public PlayerData getPlayerData() {
+        return playerData;
     }
 
     public static class CraftingQueue {
         private final String station;
         private final List<QueueItem> crafts = new ArrayList<>();
 
+        /**
+         * Used to forward queue changes to the crafting queue
+         * storage and completion scheduler. Null for queues
+         * created outside of a player's crafting status.
+         */
+        @Nullable
+        private final CraftingStatus status;
+
         public CraftingQueue(CraftingStation station) {
+            this(null, station);
+        }
+
+        public CraftingQueue(@Nullable CraftingStatus status, CraftingStation station) {
+            this.status = status;
             this.station = station.getId();
         }
 
@@ -56,6 +75,20 @@ public class CraftingStatus {
             final long gain = Math.min(item.getLeft(), item.getRecipe().getCraftingTime());
             for (int j = index; j < crafts.size(); j++)
                 crafts.get(j).removeDelay(gain);
+
+            if (status == null) return;
+
+            final CraftingQueueStorage storage = MMOItems.plugin.getCrafting().getQueueStorage();
+            final List<QueueItem> shifted = crafts.subList(index, crafts.size());
+            if (storage != null) {
+                storage.delete(status.playerData.getUniqueId(), item);
+                if (gain > 0) storage.updateCompletion(status.playerData.getUniqueId(), shifted);
+            }
+
+            // Subsequent items complete earlier now
+            if (gain > 0)
+                for (QueueItem craft : shifted)
+                    MMOItems.plugin.getCrafting().getCompletionScheduler().schedule(status.playerData, this, craft);
         }
 
         @Nullable
@@ -71,11 +104,18 @@ public class CraftingStatus {
                     Math.max(System.currentTimeMillis(), CraftingQueue.this.crafts.get(CraftingQueue.this.crafts.size() - 1).completion);
             final long itemCompletion = highestCompletion + recipe.getCraftingTime();
 
-            add(recipe, System.currentTimeMillis(), itemCompletion);
+            final QueueItem item = add(recipe, UUID.randomUUID(), System.currentTimeMillis(), itemCompletion);
+            if (status == null) return;
+
+            final CraftingQueueStorage storage = MMOItems.plugin.getCrafting().getQueueStorage();
+            if (storage != null) storage.insert(status.playerData.getUniqueId(), station, item);
+            MMOItems.plugin.getCrafting().getCompletionScheduler().schedule(status.playerData, this, item);
         }
 
-        private void add(CraftingRecipe recipe, long start, long completion) {
-            crafts.add(new QueueItem(recipe, start, completion));
+        private QueueItem add(CraftingRecipe recipe, UUID uuid, long start, long completion) {
+            final QueueItem item = new QueueItem(recipe, uuid, start, completion);
+            crafts.add(item);
+            return item;
         }
 
         public CraftingStation getStation() {
@@ -84,7 +124,7 @@ public class CraftingStatus {
 
         public class QueueItem {
             private final String recipe;
-            private final UUID uuid = UUID.randomUUID();
+            private final UUID uuid;
             private final long start;
 
             /**
@@ -95,8 +135,23 @@ public class CraftingStatus {
              */
             private long completion;
 
+            /**
+             * Last resolved recipe, along with the station instance it was
+             * resolved from. Stations are replaced on /mi reload stations,
+             * which invalidates the cached recipe.
+             */
+            @Nullable
+            private CraftingStation cachedStation;
+            @Nullable
+            private CraftingRecipe cachedRecipe;
+
             public QueueItem(@NotNull CraftingRecipe recipe, long start, long completion) {
+                this(recipe, UUID.randomUUID(), start, completion);
+            }
+
+            public QueueItem(@NotNull CraftingRecipe recipe, @NotNull UUID uuid, long start, long completion) {
                 this.recipe = recipe.getId();
+                this.uuid = uuid;
                 this.start = start;
                 this.completion = completion;
             }
@@ -110,7 +165,25 @@ public class CraftingStatus {
              * IDs instead of a direct reference to the crafting recipe
              */
             public CraftingRecipe getRecipe() {
-                return (CraftingRecipe) getStation().getRecipe(recipe);
+                final CraftingStation current = getStation();
+                if (current != cachedStation || cachedRecipe == null) {
+                    cachedRecipe = (CraftingRecipe) current.getRecipe(recipe);
+                    cachedStation = current;
+                }
+                return cachedRecipe;
+            }
+
+            @NotNull
+            public String getRecipeId() {
+                return recipe;
+            }
+
+            public long getStart() {
+                return start;
+            }
+
+            public long getCompletion() {
+                return completion;
             }
 
             public boolean isReady() {
@@ -159,7 +232,7 @@ public class CraftingStatus {
             }
 
             CraftingStation station = MMOItems.plugin.getCrafting().getStation(stationId);
-            CraftingQueue queue = new CraftingQueue(station);
+            CraftingQueue queue = new CraftingQueue(this, station);
             queues.put(station, queue);
 
             @BackwardsCompatibility(version = "6.10") final Optional<String> legacyOpt = config.getConfigurationSection(stationId).getKeys(false).stream().findFirst();
@@ -185,21 +258,36 @@ public class CraftingStatus {
                 if (legacyLoading) {
                     final long started = config.getLong(stationId + "." + recipeConfigId + ".started");
                     final long delay = config.getLong(stationId + "." + recipeConfigId + ".delay");
-                    queue.add((CraftingRecipe) recipe, started, started + delay);
+                    queue.add((CraftingRecipe) recipe, UUID.randomUUID(), started, started + delay);
                     continue;
                 }
 
-                queue.add((CraftingRecipe) recipe,
+                queue.add((CraftingRecipe) recipe, parseUniqueId(recipeConfigId),
                         config.getLong(stationId + "." + recipeConfigId + ".start"),
                         config.getLong(stationId + "." + recipeConfigId + ".completion"));
             }
         }
+
+        scheduleAll();
+    }
+
+    /**
+     * Queue items are saved under 'recipe-{uuid}' so that their unique
+     * ID is preserved when moving from YAML to a row-level storage.
+     */
+    @NotNull
+    private static UUID parseUniqueId(@NotNull String recipeConfigId) {
+        try {
+            return UUID.fromString(recipeConfigId.startsWith("recipe-") ? recipeConfigId.substring(7) : recipeConfigId);
+        } catch (IllegalArgumentException exception) {
+            return UUID.randomUUID();
+        }
     }
 
     public void saveToYaml(ConfigurationSection config) {
         queues.forEach((station, queue) -> {
             for (QueueItem craft : queue.getCrafts()) {
-                config.set(station.getId() + ".recipe-" + craft.getUniqueId().toString() + ".recipe", craft.getRecipe().getId());
+                config.set(station.getId() + ".recipe-" + craft.getUniqueId().toString() + ".recipe", craft.getRecipeId());
                 config.set(station.getId() + ".recipe-" + craft.getUniqueId().toString() + ".start", craft.start);
                 config.set(station.getId() + ".recipe-" + craft.getUniqueId().toString() + ".completion", craft.completion);
             }
@@ -207,4 +295,64 @@ public class CraftingStatus {
     }
 
     //endregion
+
+    //region Storage
+
+    /**
+     * Loads crafting queues from a row-level storage. If the storage has
+     * nothing for that player, queues found in the legacy YAML section
+     * are loaded instead and copied over to the storage.
+     *
+     * @param storage     Crafting queue storage
+     * @param yamlSection Legacy YAML section, may be null
+     */
+    public void loadFromStorage(@NotNull CraftingQueueStorage storage, @Nullable ConfigurationSection yamlSection) {
+        final List<CraftingQueueStorage.StoredCraft> stored = storage.load(playerData.getUniqueId());
+
+        // Migrate from YAML
+        if (stored.isEmpty()) {
+            if (yamlSection == null) return;
+
+            loadFromYaml(yamlSection);
+            queues.forEach((station, queue) -> {
+                for (QueueItem craft : queue.getCrafts())
+                    storage.insert(playerData.getUniqueId(), station.getId(), craft);
+            });
+            return;
+        }
+
+        queues.clear();
+        final String playerName = playerData.getMMOPlayerData().getPlayerName();
+        for (CraftingQueueStorage.StoredCraft craft : stored) {
+            final CraftingStation station = MMOItems.plugin.getCrafting().getStation(craft.getStation());
+            if (station == null) {
+                MMOItems.plugin.getLogger().log(Level.SEVERE, "An error occurred while trying to load crafting station recipe data of '"
+                        + playerName + "': could not find crafting station with ID '" + craft.getStation() + "'");
+                continue;
+            }
+
+            final Recipe recipe = station.getRecipe(craft.getRecipe());
+            if (!(recipe instanceof CraftingRecipe)) {
+                MMOItems.plugin.getLogger().log(Level.SEVERE, "An error occurred while trying to load crafting station recipe data of '"
+                        + playerName + "': could not find CRAFTING recipe with ID '" + craft.getRecipe() + "'");
+                continue;
+            }
+
+            getQueue(station).add((CraftingRecipe) recipe, craft.getUniqueId(), craft.getStart(), craft.getCompletion());
+        }
+
+        scheduleAll();
+    }
+
+    private void scheduleAll() {
+        final CraftingCompletionScheduler scheduler = MMOItems.plugin.getCrafting().getCompletionScheduler();
+        if (!scheduler.isRunning()) return;
+
+        queues.values().forEach(queue -> {
+            for (QueueItem craft : queue.getCrafts())
+                if (!craft.isReady()) scheduler.schedule(playerData, queue, craft);
+        });
+    }
+
+    //endregion
 }
@@ -0,0 +1,86 @@
+package net.Indyuce.mmoitems.api.crafting.storage;
+
+import net.Indyuce.mmoitems.api.crafting.CraftingStatus.CraftingQueue.QueueItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 制作队列持久化层
+ * <p>
+ * 未注册任何实现时，制作队列沿用玩家 YAML 存档整段保存；注册实现后，
+ * 队列的每一次增删改都会以行级别写入对应存储，玩家存档中不再保存队列。
+ * </p>
+ *
+ * @see net.Indyuce.mmoitems.manager.CraftingManager#setQueueStorage(CraftingQueueStorage)
+ */
+public interface CraftingQueueStorage {
+
+    /**
+     * 读取玩家的全部排队记录，按完成时间升序返回
+     *
+     * @param player 玩家（档案）UUID
+     * @return 已保存的排队记录
+     */
+    @NotNull
+    List<StoredCraft> load(@NotNull UUID player);
+
+    /**
+     * 新增一条排队记录
+     */
+    void insert(@NotNull UUID player, @NotNull String station, @NotNull QueueItem item);
+
+    /**
+     * 删除一条排队记录（领取或取消制作时）
+     */
+    void delete(@NotNull UUID player, @NotNull QueueItem item);
+
+    /**
+     * 更新若干排队记录的完成时间（前序物品被移除后，后续物品会提前完成）
+     */
+    void updateCompletion(@NotNull UUID player, @NotNull Collection<QueueItem> items);
+
+    /**
+     * 插件关闭时调用，需保证所有未完成的写入已落盘
+     */
+    void close();
+
+    class StoredCraft {
+        private final UUID uuid;
+        private final String station, recipe;
+        private final long start, completion;
+
+        public StoredCraft(@NotNull UUID uuid, @NotNull String station, @NotNull String recipe, long start, long completion) {
+            this.uuid = uuid;
+            this.station = station;
+            this.recipe = recipe;
+            this.start = start;
+            this.completion = completion;
+        }
+
+        @NotNull
+        public UUID getUniqueId() {
+            return uuid;
+        }
+
+        @NotNull
+        public String getStation() {
+            return station;
+        }
+
+        @NotNull
+        public String getRecipe() {
+            return recipe;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getCompletion() {
+            return completion;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package net.Indyuce.mmoitems.api.crafting.storage;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.lumine.mythic.lib.MythicLib;
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.crafting.CraftingStatus.CraftingQueue.QueueItem;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * MySQL 制作队列存储（跨服共享）
+ * <p>
+ * 每个排队物品对应一行记录，增删改均为单行语句。写入操作交给单线程
+ * 执行器顺序处理，既不阻塞主线程，也保证同一物品的插入先于删除执行。
+ * 读取发生在玩家数据加载阶段，直接同步执行。
+ * </p>
+ */
+public class SQLCraftingQueueStorage implements CraftingQueueStorage {
+    private final HikariDataSource dataSource;
+    private final String table;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "MMOItems-CraftingQueue-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SQLCraftingQueueStorage(@NotNull String jdbcUrl, @NotNull String user, @NotNull String password, @NotNull String table, int poolSize) {
+        final HikariConfig cfg = new HikariConfig();
+        cfg.setJdbcUrl(jdbcUrl);
+        cfg.setUsername(user);
+        cfg.setPassword(password);
+        cfg.setMaximumPoolSize(Math.max(2, poolSize));
+        cfg.setPoolName("MMOItems-CraftingQueue");
+        cfg.setConnectionTimeout(10000);
+        cfg.setLeakDetectionThreshold(60000);
+        cfg.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        this.dataSource = new HikariDataSource(cfg);
+        this.table = table;
+        initTable();
+    }
+
+    /**
+     * 读取 config.yml 中 database.crafting-queue 配置。开启 use-mythiclib-mysql
+     * 且 MythicLib 启用了 MySQL 时，直接复用 MythicLib 的连接信息。
+     */
+    @NotNull
+    public static SQLCraftingQueueStorage fromConfig(@NotNull ConfigurationSection config) {
+        final String table = config.getString("table", "mmoitems_crafting_queue");
+        final ConfigurationSection mlMysql = MythicLib.plugin.getConfig().getConfigurationSection("mysql");
+        if (config.getBoolean("use-mythiclib-mysql", false) && MythicLib.plugin.getConfig().getBoolean("mysql.enabled") && mlMysql != null) {
+            final String jdbcUrl = "jdbc:mysql://" + mlMysql.getString("host", "127.0.0.1") + ":" + mlMysql.getInt("port", 3306)
+                    + "/" + mlMysql.getString("database", "minecraft") + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
+            return new SQLCraftingQueueStorage(jdbcUrl, mlMysql.getString("user", "root"), mlMysql.getString("pass", ""), table, mlMysql.getInt("maxPoolSize", 10));
+        }
+
+        final String jdbcUrl = "jdbc:mysql://" + config.getString("host", "127.0.0.1") + ":" + config.getInt("port", 3306)
+                + "/" + config.getString("database", "mmoitems") + "?" + config.getString("params", "useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC");
+        return new SQLCraftingQueueStorage(jdbcUrl, config.getString("user", "root"), config.getString("password", ""), table, config.getInt("pool-size", 5));
+    }
+
+    private void initTable() {
+        final String ddl = "CREATE TABLE IF NOT EXISTS `" + table + "` (" +
+                "`uuid` CHAR(36) NOT NULL," +
+                "`player` CHAR(36) NOT NULL," +
+                "`station` VARCHAR(64) NOT NULL," +
+                "`recipe` VARCHAR(128) NOT NULL," +
+                "`start` BIGINT NOT NULL," +
+                "`completion` BIGINT NOT NULL," +
+                "PRIMARY KEY (`uuid`)," +
+                "INDEX `idx_player` (`player`)" +
+                ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;";
+        try (Connection conn = dataSource.getConnection();
+             Statement st = conn.createStatement()) {
+            st.executeUpdate(ddl);
+        } catch (SQLException e) {
+            MMOItems.plugin.getLogger().log(Level.SEVERE, "无法初始化制作队列数据表：" + e.getMessage());
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<StoredCraft> load(@NotNull UUID player) {
+        final List<StoredCraft> crafts = new ArrayList<>();
+        final String sql = "SELECT uuid, station, recipe, start, completion FROM `" + table + "` WHERE player = ? ORDER BY completion ASC";
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, player.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next())
+                    crafts.add(new StoredCraft(UUID.fromString(rs.getString("uuid")), rs.getString("station"), rs.getString("recipe"),
+                            rs.getLong("start"), rs.getLong("completion")));
+            }
+        } catch (SQLException e) {
+            MMOItems.plugin.getLogger().log(Level.SEVERE, "读取制作队列失败（" + player + "）：" + e.getMessage());
+        }
+        return crafts;
+    }
+
+    @Override
+    public void insert(@NotNull UUID player, @NotNull String station, @NotNull QueueItem item) {
+        final String uuid = item.getUniqueId().toString(), recipe = item.getRecipeId();
+        final long start = item.getStart(), completion = item.getCompletion();
+        submit(conn -> {
+            final String sql = "INSERT INTO `" + table + "` (uuid, player, station, recipe, start, completion) VALUES (?, ?, ?, ?, ?, ?)" +
+                    " ON DUPLICATE KEY UPDATE completion = VALUES(completion)";
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, uuid);
+                ps.setString(2, player.toString());
+                ps.setString(3, station);
+                ps.setString(4, recipe);
+                ps.setLong(5, start);
+                ps.setLong(6, completion);
+                ps.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public void delete(@NotNull UUID player, @NotNull QueueItem item) {
+        final String uuid = item.getUniqueId().toString();
+        submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM `" + table + "` WHERE uuid = ?")) {
+                ps.setString(1, uuid);
+                ps.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public void updateCompletion(@NotNull UUID player, @NotNull Collection<QueueItem> items) {
+        if (items.isEmpty()) return;
+
+        // 在主线程拍下快照，避免写线程读取到之后再次变化的数值
+        final List<String> uuids = new ArrayList<>(items.size());
+        final long[] completions = new long[items.size()];
+        for (QueueItem item : items) {
+            completions[uuids.size()] = item.getCompletion();
+            uuids.add(item.getUniqueId().toString());
+        }
+
+        submit(conn -> {
+            try (PreparedStatement ps = conn.prepareStatement("UPDATE `" + table + "` SET completion = ? WHERE uuid = ?")) {
+                for (int i = 0; i < uuids.size(); i++) {
+                    ps.setLong(1, completions[i]);
+                    ps.setString(2, uuids.get(i));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS))
+                MMOItems.plugin.getLogger().log(Level.WARNING, "制作队列写入未能在 10 秒内完成，部分数据可能丢失");
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!dataSource.isClosed()) dataSource.close();
+    }
+
+    private void submit(@NotNull SQLTask task) {
+        writer.execute(() -> {
+            try (Connection conn = dataSource.getConnection()) {
+                task.run(conn);
+            } catch (SQLException e) {
+                MMOItems.plugin.getLogger().log(Level.SEVERE, "写入制作队列失败：" + e.getMessage());
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface SQLTask {
+        void run(@NotNull Connection conn) throws SQLException;
+    }
+}
@@ -6,6 +6,7 @@ import net.Indyuce.mmoitems.api.droptable.item.BlockDropItem;
 import net.Indyuce.mmoitems.api.droptable.item.DropItem;
 import net.Indyuce.mmoitems.api.droptable.item.MMOItemDropItem;
 import net.Indyuce.mmoitems.api.player.PlayerData;
+import net.Indyuce.mmoitems.api.util.WeightedSampler;
 import io.lumine.mythic.lib.util.lang3.Validate;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
@@ -15,46 +16,61 @@ import java.util.*;
 import java.util.logging.Level;
 
 public class DropTable {
-	private final List<String> subtablesList = new ArrayList<>();
+	private final WeightedSampler<String> subtableSampler;
 	private final Map<String, Subtable> subtables = new HashMap<>();
 
 	private static final Random random = new Random();
 
 	public DropTable(ConfigurationSection config) {
 		Validate.notNull(config, "Could not read the drop table config");
+		final WeightedSampler.Builder<String> sampler = WeightedSampler.builder();
 		for (String key : config.getKeys(false))
 			try {
 
-				// Add subtable to list & then to map
-				for (int j = 0; j < config.getInt(key + ".coef"); j++)
-					subtablesList.add(key);
-
 				// Include parsed subtable
 				subtables.put(key, new Subtable(config.getConfigurationSection(key)));
 
+				// Subtable weight
+				sampler.add(key, Math.max(0, config.getInt(key + ".coef")));
+
 			} catch (IllegalArgumentException exception) {
 				MMOItems.plugin.getLogger().log(Level.SEVERE, "Could not read subtable '" + key + "' from drop table '" + config.getName() + "': " + exception.getMessage());
 			}
 
-		Validate.notEmpty(subtablesList, "Your droptable must contain at least one subtable");
+		Validate.isTrue(!sampler.isEmpty(), "Your droptable must contain at least one subtable");
+		subtableSampler = sampler.build();
 	}
 
 	public String getRandomSubtable() {
-		return subtablesList.get(random.nextInt(subtablesList.size()));
+		return subtableSampler.sample(random);
+	}
+
+	/**
+	 * Picks a random subtable and rolls the drop chance of its items.
+	 *
+	 * @param silkTouch If the block was broken using silk touch
+	 * @return Items that should drop
+	 */
+	public List<DropItem> rollDrops(boolean silkTouch) {
+		List<DropItem> rolled = new ArrayList<>();
+
+		for (DropItem dropItem : getSubtable(getRandomSubtable()).getDropItems(silkTouch))
+			if (dropItem.rollDrop())
+				rolled.add(dropItem);
+
+		return rolled;
 	}
 
 	public List<ItemStack> read(@Nullable PlayerData player, boolean silkTouch) {
 		List<ItemStack> dropped = new ArrayList<>();
 
-		String randomSubtable = getRandomSubtable();
-		for (DropItem dropItem : getSubtable(randomSubtable).getDropItems(silkTouch))
-			if (dropItem.rollDrop()) {
-				ItemStack drop = dropItem.getItem(player);
-				if (drop == null)
-					MMOItems.plugin.getLogger().log(Level.SEVERE, "Couldn't read the subtable item " + dropItem.getKey());
-				else
-					dropped.add(drop);
-			}
+		for (DropItem dropItem : rollDrops(silkTouch)) {
+			ItemStack drop = dropItem.getItem(player);
+			if (drop == null)
+				MMOItems.plugin.getLogger().log(Level.SEVERE, "Couldn't read the subtable item " + dropItem.getKey());
+			else
+				dropped.add(drop);
+		}
 
 		return dropped;
 	}
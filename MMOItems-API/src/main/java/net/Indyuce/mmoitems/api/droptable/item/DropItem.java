@@ -1,6 +1,7 @@
 package net.Indyuce.mmoitems.api.droptable.item;
 
 import java.util.Random;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -46,5 +47,22 @@ public abstract class DropItem {
 
 	public abstract ItemStack getItem(@Nullable PlayerData player, int amount);
 
+	/**
+	 * Splits item generation in two steps so that the heavy part can run
+	 * outside of the main thread. This method is called on the main thread
+	 * and rolls whatever needs player data. The returned supplier can be
+	 * called from any thread, and it itself returns the supplier that
+	 * creates the item stack, which must be called on the main thread.
+	 * <p>
+	 * By default, everything is done on the main thread.
+	 *
+	 * @param player Player the item is generated for
+	 * @param amount Item amount
+	 * @return Item generation steps
+	 */
+	public Supplier<Supplier<ItemStack>> prepare(@Nullable PlayerData player, int amount) {
+		return () -> () -> getItem(player, amount);
+	}
+
 	public abstract String getKey();
 }
@@ -4,11 +4,18 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.ItemTier;
 import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.item.build.MMOItemBuilder;
+import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
+import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
+import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate.TemplateOption;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.api.util.RandomAmount;
 import io.lumine.mythic.lib.api.item.NBTItem;
 
+import java.util.function.Supplier;
+
 public class MMOItemDropItem extends DropItem {
 	private final Type type;
 	private final String id;
@@ -67,6 +74,38 @@ public class MMOItemDropItem extends DropItem {
 		return item;
 	}
 
+	/**
+	 * Item level, tier and identification are rolled on the main thread
+	 * like {@link MMOItemTemplate#newBuilder(net.Indyuce.mmoitems.api.player.RPGPlayer)}
+	 * does, stats and modifiers are rolled by the async step and only the
+	 * item stack is created back on the main thread.
+	 */
+	@Override
+	public Supplier<Supplier<ItemStack>> prepare(PlayerData player, int amount) {
+		final MMOItemTemplate template = MMOItems.plugin.getTemplates().getTemplate(type, id);
+		if (template == null)
+			return () -> () -> null;
+
+		final int itemLevel = player != null && template.hasOption(TemplateOption.LEVEL_ITEM) ? MMOItems.plugin.getTemplates().rollLevel(player.getRPG().getLevel()) : 0;
+		final ItemTier itemTier = player != null && template.hasOption(TemplateOption.TIERED) ? MMOItems.plugin.getTemplates().rollTier() : null;
+		final boolean unidentified = rollIdentification();
+
+		return () -> {
+			final MMOItem mmoitem = new MMOItemBuilder(template, itemLevel, itemTier).build();
+			return () -> {
+				ItemStack item = mmoitem.newBuilder().build();
+				if (item == null || item.getType() == Material.AIR)
+					return null;
+
+				if (unidentified)
+					item = type.getUnidentifiedTemplate().newBuilder(NBTItem.get(item)).build();
+
+				item.setAmount(amount);
+				return item;
+			};
+		};
+	}
+
 	@Override
 	public String getKey() {
 		return type.getId() + "." + id;
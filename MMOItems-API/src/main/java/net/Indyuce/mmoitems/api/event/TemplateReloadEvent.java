@@ -0,0 +1,60 @@
+package net.Indyuce.mmoitems.api.event;
+
+import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Called after item templates were reloaded. Since reloads are incremental,
+ * only templates from config files that changed, or depending on modifiers
+ * that changed, are loaded again. Caches based on templates should only
+ * refresh these instead of being reset altogether.
+ * <p>
+ * Also called when a single template is created, edited or deleted,
+ * for instance using the item edition GUI.
+ */
+public class TemplateReloadEvent extends Event {
+    private final Collection<MMOItemTemplate> loaded, removed;
+    private final boolean full;
+
+    private static final HandlerList handlers = new HandlerList();
+
+    /**
+     * @param loaded  Templates that were (re)loaded
+     * @param removed Templates that were unregistered, including
+     *                previous versions of reloaded templates
+     * @param full    If all templates were reloaded
+     */
+    public TemplateReloadEvent(@NotNull Collection<MMOItemTemplate> loaded, @NotNull Collection<MMOItemTemplate> removed, boolean full) {
+        this.loaded = loaded;
+        this.removed = removed;
+        this.full = full;
+    }
+
+    @NotNull
+    public Collection<MMOItemTemplate> getLoaded() {
+        return loaded;
+    }
+
+    @NotNull
+    public Collection<MMOItemTemplate> getRemoved() {
+        return removed;
+    }
+
+    public boolean isFullReload() {
+        return full;
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -103,7 +103,8 @@ public class Consumable extends UseItem {
                 final String format = MythicLib.inst().parseColors(ItemStats.MAX_CONSUME.getGeneralStatFormat());
                 final String old = format.replace("{value}", String.valueOf(usesLeft + 1));
                 final String replaced = format.replace("{value}", String.valueOf(usesLeft));
-                ItemStack newItem = new LoreUpdate(nbtItem.toItem(), null, nbtItem, old, replaced).updateLore();
+                ItemStack newItem = new LoreUpdate(nbtItem.toItem(), null, nbtItem, old, replaced)
+                        .region(ItemStats.MAX_CONSUME.getNBTPath(), usesLeft + 1, usesLeft).updateLore();
 
                 // This fixes the issue when players right click stacked consumables
                 if (oldItem.getAmount() > 1) {
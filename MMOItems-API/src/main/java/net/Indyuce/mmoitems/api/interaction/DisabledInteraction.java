@@ -0,0 +1,42 @@
+package net.Indyuce.mmoitems.api.interaction;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Vanilla interactions which can be disabled for all MMOItems
+ * using the 'disable-interactions' config section, or for
+ * specific items using their NBT tag.
+ */
+public enum DisabledInteraction {
+    INTERACT("interact", "MMOITEMS_DISABLE_INTERACTION"),
+    DROP("drop", "MMOITEMS_DISABLE_DROPING"),
+    REPAIR("repair", "MMOITEMS_DISABLE_REPAIRING"),
+    ENCHANT("enchant", "MMOITEMS_DISABLE_ENCHANTING"),
+    SMELT("smelt", "MMOITEMS_DISABLE_SMELTING"),
+    SMITH("smith", "MMOITEMS_DISABLE_SMITHING"),
+    CRAFT("craft", "MMOITEMS_DISABLE_CRAFTING"),
+    ARROW_SHOOTING("arrow-shooting", "MMOITEMS_DISABLE_ARROW_SHOOTING");
+
+    private final String configKey, nbtTag;
+
+    DisabledInteraction(String configKey, String nbtTag) {
+        this.configKey = configKey;
+        this.nbtTag = nbtTag;
+    }
+
+    /**
+     * @return Key of the option inside the 'disable-interactions' config section
+     */
+    @NotNull
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * @return NBT tag disabling the interaction for one specific item
+     */
+    @NotNull
+    public String getNBTTag() {
+        return nbtTag;
+    }
+}
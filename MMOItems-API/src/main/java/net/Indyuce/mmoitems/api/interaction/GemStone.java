@@ -3,10 +3,13 @@ package net.Indyuce.mmoitems.api.interaction;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.version.Sounds;
 import net.Indyuce.mmoitems.ItemStats;
+import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.Type;
 import net.Indyuce.mmoitems.api.event.item.ApplyGemStoneEvent;
+import net.Indyuce.mmoitems.api.item.build.ItemStackPatcher;
 import net.Indyuce.mmoitems.api.item.mmoitem.LiveMMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
+import net.Indyuce.mmoitems.api.item.mmoitem.VolatileMMOItem;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.api.util.message.Message;
 import net.Indyuce.mmoitems.stat.Enchants;
@@ -40,16 +43,62 @@ public class GemStone extends UseItem {
 
     @NotNull
     public ApplyResult applyOntoItem(@NotNull NBTItem target, @NotNull Type targetType) {
+        final String itemName = MMOUtils.getDisplayName(target.getItem());
+
+        /*
+         * Only reads the stats affected by the gem stone and patches
+         * the existing item stack. Apply events listeners may edit the
+         * target MMOItem in any way so they require a complete item.
+         */
+        if (MMOItems.plugin.getLanguage().incrementalGemApply && ApplyGemStoneEvent.getHandlerList().getRegisteredListeners().length == 0) {
+            final LiveMMOItem gemMMOItem = new LiveMMOItem(getNBTItem());
+            final VolatileMMOItem targetMMO = new VolatileMMOItem(target);
+            final ItemStackPatcher patcher = new ItemStackPatcher(targetMMO);
+
+            patcher.snapshot(ItemStats.GEM_SOCKETS);
+            for (ItemStat stat : gemMMOItem.getStats())
+                if (!(stat instanceof GemStoneStat) && gemMMOItem.getData(stat) instanceof Mergeable)
+                    patcher.snapshot(stat);
+
+            if (patcher.isPatchable()) {
+                final ApplyResult result = applyOntoItem(targetMMO, targetType, itemName, false, false, gemMMOItem);
+                if (result.getType() != ResultType.SUCCESS) return result;
+
+                final ItemStack patched = patcher.build();
+                if (patched != null) return new ApplyResult(patched);
+
+                /*
+                 * Gem was applied but lore could not be patched. Data
+                 * was only partially read, so read the target again
+                 * and apply the very same gem data onto it.
+                 */
+                final LiveMMOItem fullTarget = new LiveMMOItem(target);
+                for (StatHistory history : targetMMO.getStatHistories())
+                    fullTarget.setStatHistory(history.getItemStat(), history.clone().setParent(fullTarget));
+                Enchants.separateEnchantments(fullTarget);
+                return new ApplyResult(fullTarget.newBuilder().build());
+            }
+        }
 
         /*
          * Entirely loads the MMOItem and checks if
          * it has the required empty socket for the gem
          */
-        return applyOntoItem(new LiveMMOItem(target), targetType, MMOUtils.getDisplayName(target.getItem()), true, false);
+        return applyOntoItem(new LiveMMOItem(target), targetType, itemName, true, false);
     }
 
     @NotNull
     public ApplyResult applyOntoItem(@NotNull MMOItem targetMMO, @NotNull Type targetType, @NotNull String itemName, boolean buildStack, boolean silent) {
+        return applyOntoItem(targetMMO, targetType, itemName, buildStack, silent, null);
+    }
+
+    /**
+     * @param preloadedGem Gem stone MMOItem if it was already read. When
+     *                     provided, the target is being patched and not
+     *                     rebuilt so the gem stone item is not rebuilt either
+     */
+    @NotNull
+    private ApplyResult applyOntoItem(@NotNull MMOItem targetMMO, @NotNull Type targetType, @NotNull String itemName, boolean buildStack, boolean silent, @Nullable LiveMMOItem preloadedGem) {
 
         if (!targetMMO.hasData(ItemStats.GEM_SOCKETS))
             return new ApplyResult(ResultType.NONE);
@@ -88,15 +137,24 @@ public class GemStone extends UseItem {
             return new ApplyResult(ResultType.FAILURE);
         }
 
-        // To not clear enchantments put by players
-        Enchants.separateEnchantments(targetMMO);
+        // To not clear enchantments put by players. Patched items keep their meta
+        if (preloadedGem == null) Enchants.separateEnchantments(targetMMO);
 
         /*
          * Gemstone can be successfully applied. Apply stats then abilities and
          * permanent effects. also REGISTER gemstone in the item gemstone list.
          */
-        LiveMMOItem gemMMOItem = new LiveMMOItem(getNBTItem());
-        GemstoneData gemData = new GemstoneData(gemMMOItem, foundSocketColor);
+        final LiveMMOItem gemMMOItem;
+        final GemstoneData gemData;
+        if (preloadedGem != null) {
+            final ItemStack storedGem = getItem().clone();
+            storedGem.setAmount(1);
+            gemMMOItem = preloadedGem;
+            gemData = new GemstoneData(gemMMOItem, foundSocketColor, UUID.randomUUID(), storedGem);
+        } else {
+            gemMMOItem = new LiveMMOItem(getNBTItem());
+            gemData = new GemstoneData(gemMMOItem, foundSocketColor);
+        }
 
         /*
          * Now must apply the gem sockets data to the Stat History and then recalculate.
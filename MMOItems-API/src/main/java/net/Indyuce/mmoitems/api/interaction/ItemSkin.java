@@ -41,7 +41,7 @@ public class ItemSkin extends UseItem {
         // Cannot skin stacked items
         if (target.getItem().getAmount() > 1) return new ApplyResult(ResultType.NONE);
 
-        if (MMOItems.plugin.getConfig().getBoolean("locked-skins") && MMOUtils.isNonEmpty(target.getString(ItemSkin.SKIN_ID_TAG))) {
+        if (MMOItems.plugin.getLanguage().lockedSkins && MMOUtils.isNonEmpty(target.getString(ItemSkin.SKIN_ID_TAG))) {
             player.playSound(player.getLocation(), Sounds.ENTITY_VILLAGER_NO, 1, 1);
             Message.SKIN_REJECTED.format(ChatColor.RED, "#item#", MMOUtils.getDisplayName(target.getItem())).send(player);
             return new ApplyResult(ResultType.NONE);
@@ -0,0 +1,144 @@
+package net.Indyuce.mmoitems.api.interaction;
+
+import io.lumine.mythic.lib.UtilityMethods;
+import io.lumine.mythic.lib.api.item.NBTItem;
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.interaction.weapon.Weapon;
+import net.Indyuce.mmoitems.api.player.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Item decoded once and shared by every MMOItems listener handling the
+ * same player interaction. A single click can trigger interact, attack
+ * and damage events during the same tick, which would otherwise all
+ * read the item NBT, resolve its type and check its requirements again.
+ * <p>
+ * Contexts only live until the end of the current tick. They are matched
+ * against the stack instance first, then against similar stacks since
+ * some events provide copies of the item being used. Must only be used
+ * on the main thread.
+ */
+public class UseItemContext {
+    private final ItemStack item;
+    private final NBTItem nbtItem;
+    @Nullable
+    private final Type type;
+
+    private final Map<Class<?>, UseItem> useItems = new HashMap<>(2);
+    private final Set<UseItem> usable = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Very few different items are used by a player during one tick
+     */
+    private static final int MAX_CONTEXTS_PER_PLAYER = 4;
+
+    private static final Map<UUID, List<UseItemContext>> CONTEXTS = new HashMap<>();
+    private static boolean clearScheduled;
+
+    private UseItemContext(@Nullable ItemStack item) {
+        this.item = item;
+        this.nbtItem = NBTItem.get(item);
+        this.type = Type.get(nbtItem);
+    }
+
+    @Nullable
+    public ItemStack getItem() {
+        return item;
+    }
+
+    @NotNull
+    public NBTItem getNBTItem() {
+        return nbtItem;
+    }
+
+    @Nullable
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return Interaction matching the item type, see {@link Type#toUseItem(PlayerData, NBTItem)}
+     * @throws NullPointerException If the item has no MMOItems type
+     */
+    @NotNull
+    public UseItem getUseItem(@NotNull PlayerData playerData) {
+        return useItems.computeIfAbsent(UseItem.class, unused -> Objects.requireNonNull(type, "Item has no type").toUseItem(playerData, nbtItem));
+    }
+
+    @NotNull
+    public Weapon getWeapon(@NotNull PlayerData playerData) {
+        return (Weapon) useItems.computeIfAbsent(Weapon.class, unused -> new Weapon(playerData, nbtItem));
+    }
+
+    @NotNull
+    public Tool getTool(@NotNull PlayerData playerData) {
+        return (Tool) useItems.computeIfAbsent(Tool.class, unused -> new Tool(playerData, nbtItem));
+    }
+
+    /**
+     * Item requirements only need to be checked once per tick. Failed
+     * checks are not cached so that messages are still sent to the player.
+     *
+     * @param useItem Interaction obtained from this context
+     * @param message Should a message be sent if the item cannot be used
+     * @return If the item can be used
+     */
+    public boolean checkItemRequirements(@NotNull UseItem useItem, boolean message) {
+        if (usable.contains(useItem)) return true;
+
+        final boolean success = useItem.checkItemRequirements(message);
+        if (success) usable.add(useItem);
+        return success;
+    }
+
+    private boolean matches(@Nullable ItemStack item) {
+        return this.item == item || this.item.getType() == item.getType() && this.item.getAmount() == item.getAmount() && this.item.isSimilar(item);
+    }
+
+    /**
+     * @param player Player using the item
+     * @param item   Item being used
+     * @return Context of the item being used, decoded at
+     *         most once per tick for every player and item
+     */
+    @NotNull
+    public static UseItemContext get(@NotNull Player player, @Nullable ItemStack item) {
+
+        // Nothing to cache
+        if (UtilityMethods.isAir(item)) return new UseItemContext(item);
+
+        final List<UseItemContext> contexts = CONTEXTS.computeIfAbsent(player.getUniqueId(), unused -> new ArrayList<>(MAX_CONTEXTS_PER_PLAYER));
+        for (UseItemContext context : contexts)
+            if (context.matches(item)) return context;
+
+        final UseItemContext context = new UseItemContext(item);
+        if (contexts.size() >= MAX_CONTEXTS_PER_PLAYER) contexts.remove(0);
+        contexts.add(context);
+
+        // Contexts are cleared on the next tick
+        if (!clearScheduled) {
+            clearScheduled = true;
+            Bukkit.getScheduler().runTask(MMOItems.plugin, () -> {
+                clearScheduled = false;
+                CONTEXTS.clear();
+            });
+        }
+
+        return context;
+    }
+
+    /**
+     * Must be called after MMOItems modifies an item being
+     * used, for instance when it is consumed or bound
+     */
+    public static void invalidate(@NotNull Player player) {
+        CONTEXTS.remove(player.getUniqueId());
+    }
+}
@@ -1,31 +1,41 @@
 package net.Indyuce.mmoitems.api.interaction.projectile;
 
 import io.lumine.mythic.lib.api.item.NBTItem;
-import io.lumine.mythic.lib.gson.JsonParser;
 import io.lumine.mythic.lib.player.particle.ParticleInformation;
-import net.Indyuce.mmoitems.MMOItems;
-import net.Indyuce.mmoitems.util.MythicLibCompatibility;
+import org.bukkit.Location;
 import org.bukkit.entity.AbstractArrow;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
 
-public class ArrowParticles extends BukkitRunnable {
+import java.util.Objects;
+
+public class ArrowParticles extends TickingProjectile {
     private final AbstractArrow arrow;
     private final ParticleInformation particleInfo;
 
     public ArrowParticles(AbstractArrow arrow, NBTItem item) {
+        this(arrow, Objects.requireNonNull(ProjectilePayload.of(item).getParticles(), "Item has no arrow particles"));
+    }
+
+    /**
+     * @param arrow        Arrow to display particles behind
+     * @param particleInfo Particles, see {@link ProjectilePayload#getParticles()}
+     */
+    public ArrowParticles(@NotNull AbstractArrow arrow, @NotNull ParticleInformation particleInfo) {
         this.arrow = arrow;
-        this.particleInfo = MythicLibCompatibility.createParticle(JsonParser.parseString(item.getString("MMOITEMS_ARROW_PARTICLES")).getAsJsonObject());
+        this.particleInfo = particleInfo;
 
-        runTaskTimer(MMOItems.plugin, 0, 1);
+        register();
     }
 
     @Override
-    public void run() {
+    public void tick() {
         if (arrow.isDead() || arrow.isOnGround()) {
             cancel();
             return;
         }
 
-        particleInfo.display(arrow.getLocation().add(0, 0, 0));
+        final Location location = arrow.getLocation();
+        if (ProjectileTicker.getInstance().canDisplayParticles(location))
+            particleInfo.display(location);
     }
 }
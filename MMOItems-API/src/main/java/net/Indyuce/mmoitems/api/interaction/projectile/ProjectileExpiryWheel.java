@@ -0,0 +1,95 @@
+package net.Indyuce.mmoitems.api.interaction.projectile;
+
+import net.Indyuce.mmoitems.MMOItems;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Removes projectiles after a delay using one single scheduler task,
+ * which only runs while there are projectiles to remove. Projectiles
+ * are placed in a timing wheel, so every tick only goes through the
+ * projectiles which may expire during that tick.
+ */
+public class ProjectileExpiryWheel implements Runnable {
+    @SuppressWarnings("unchecked")
+    private final List<Expiry>[] slots = new List[WHEEL_SIZE];
+    private int cursor, size;
+    private BukkitTask task;
+
+    private static final ProjectileExpiryWheel INSTANCE = new ProjectileExpiryWheel();
+
+    /**
+     * Power of two, so that slot indexes can be computed using a mask
+     */
+    private static final int WHEEL_SIZE = 256;
+
+    public static ProjectileExpiryWheel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param entities Projectiles to remove
+     * @param delay    Delay in ticks before removing them
+     */
+    public void schedule(@NotNull List<? extends Entity> entities, int delay) {
+        if (entities.isEmpty()) return;
+
+        // Same behaviour as a delayed task
+        delay = Math.max(1, delay);
+        final int index = (cursor + delay) & (WHEEL_SIZE - 1);
+        List<Expiry> slot = slots[index];
+        if (slot == null) slot = slots[index] = new ArrayList<>();
+        slot.add(new Expiry(new ArrayList<>(entities), (delay - 1) / WHEEL_SIZE));
+        size++;
+
+        if (task == null) task = MMOItems.plugin.getServer().getScheduler().runTaskTimer(MMOItems.plugin, this, 1, 1);
+    }
+
+    /**
+     * @return Amount of projectile groups waiting to be removed
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public void run() {
+        cursor = (cursor + 1) & (WHEEL_SIZE - 1);
+
+        final List<Expiry> slot = slots[cursor];
+        if (slot != null)
+            for (Iterator<Expiry> iterator = slot.iterator(); iterator.hasNext(); ) {
+                final Expiry expiry = iterator.next();
+                if (expiry.rounds-- > 0) continue;
+
+                for (Entity entity : expiry.entities)
+                    entity.remove();
+                iterator.remove();
+                size--;
+            }
+
+        if (size == 0) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static class Expiry {
+        private final List<? extends Entity> entities;
+
+        /**
+         * Full rotations of the wheel left before removal
+         */
+        private int rounds;
+
+        Expiry(List<? extends Entity> entities, int rounds) {
+            this.entities = entities;
+            this.rounds = rounds;
+        }
+    }
+}
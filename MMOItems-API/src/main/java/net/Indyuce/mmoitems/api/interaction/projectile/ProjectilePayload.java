@@ -0,0 +1,129 @@
+package net.Indyuce.mmoitems.api.interaction.projectile;
+
+import io.lumine.mythic.lib.MythicLib;
+import io.lumine.mythic.lib.api.item.NBTItem;
+import io.lumine.mythic.lib.entity.ProjectileMetadata;
+import io.lumine.mythic.lib.gson.JsonParser;
+import io.lumine.mythic.lib.player.particle.ParticleInformation;
+import net.Indyuce.mmoitems.stat.data.PotionEffectData;
+import net.Indyuce.mmoitems.util.MythicLibCompatibility;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * On-hit effects of a projectile shot using an MMOItem, decoded once from
+ * the item NBT. Payloads are cached by serialized stat data, so bows shooting
+ * many arrows and projectiles hitting many targets share the same payload.
+ * <p>
+ * Payloads are immutable and linked to the projectile metadata when the
+ * projectile is launched, so hitting an entity does not require any parsing.
+ */
+public class ProjectilePayload {
+    private final List<PotionEffect> potionEffects;
+    @Nullable
+    private final ParticleInformation particles;
+
+    private static final ProjectilePayload EMPTY = new ProjectilePayload(List.of(), null);
+
+    private static final Map<String, ProjectilePayload> COMPILED = new LinkedHashMap<>(16, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProjectilePayload> eldest) {
+            return size() > 128;
+        }
+    };
+
+    /**
+     * Metadata of projectiles are removed by MythicLib once they
+     * hit something, in which case the payload is not needed anymore
+     */
+    private static final Map<ProjectileMetadata, ProjectilePayload> ATTACHED = new WeakHashMap<>();
+
+    private static final String POTION_EFFECTS_TAG = "MMOITEMS_ARROW_POTION_EFFECTS", PARTICLES_TAG = "MMOITEMS_ARROW_PARTICLES";
+
+    private ProjectilePayload(@NotNull List<PotionEffect> potionEffects, @Nullable ParticleInformation particles) {
+        this.potionEffects = potionEffects;
+        this.particles = particles;
+    }
+
+    /**
+     * @return Potion effects applied onto entities hit by the projectile
+     */
+    @NotNull
+    public List<PotionEffect> getPotionEffects() {
+        return potionEffects;
+    }
+
+    /**
+     * @return Particles displayed behind the projectile, if any
+     */
+    @Nullable
+    public ParticleInformation getParticles() {
+        return particles;
+    }
+
+    /**
+     * @param item Item used to shoot the projectile
+     * @return Payload of a projectile shot using that item
+     */
+    @NotNull
+    public static ProjectilePayload of(@NotNull NBTItem item) {
+        final String potionEffects = item.hasTag(POTION_EFFECTS_TAG) ? item.getString(POTION_EFFECTS_TAG) : "";
+        final String particles = item.hasTag(PARTICLES_TAG) ? item.getString(PARTICLES_TAG) : "";
+        if (potionEffects.isEmpty() && particles.isEmpty()) return EMPTY;
+
+        return COMPILED.computeIfAbsent(potionEffects + '\0' + particles, unused -> compile(potionEffects, particles));
+    }
+
+    @NotNull
+    private static ProjectilePayload compile(@NotNull String potionEffectsJson, @NotNull String particlesJson) {
+        final List<PotionEffect> potionEffects = new ArrayList<>();
+        if (!potionEffectsJson.isEmpty())
+            for (ArrowPotionEffectArrayItem entry : MythicLib.plugin.getJson().parse(potionEffectsJson, ArrowPotionEffectArrayItem[].class)) {
+                final PotionEffectType type = PotionEffectType.getByName(entry.type);
+                if (type != null) potionEffects.add(new PotionEffectData(type, entry.duration, entry.level).toEffect());
+            }
+
+        final ParticleInformation particles = particlesJson.isEmpty() ? null : MythicLibCompatibility.createParticle(JsonParser.parseString(particlesJson).getAsJsonObject());
+        return new ProjectilePayload(Collections.unmodifiableList(potionEffects), particles);
+    }
+
+    /**
+     * Links the payload of the item used to shoot a projectile to its metadata
+     *
+     * @param projectile Projectile metadata, with a source item
+     * @return Payload linked to the projectile
+     */
+    @NotNull
+    public static ProjectilePayload attach(@NotNull ProjectileMetadata projectile) {
+        return attach(projectile, of(projectile.getSourceItem()));
+    }
+
+    /**
+     * Links an already decoded payload to a projectile. Used when shooting
+     * many projectiles using the same item at once.
+     *
+     * @param projectile Projectile metadata
+     * @param payload    Payload of the item used to shoot the projectile
+     * @return Payload linked to the projectile
+     */
+    @NotNull
+    public static ProjectilePayload attach(@NotNull ProjectileMetadata projectile, @NotNull ProjectilePayload payload) {
+        ATTACHED.put(projectile, payload);
+        return payload;
+    }
+
+    /**
+     * @param projectile Projectile metadata, with a source item
+     * @return Payload linked to the projectile. Projectiles registered by
+     *         other plugins are decoded from their source item instead
+     */
+    @NotNull
+    public static ProjectilePayload get(@NotNull ProjectileMetadata projectile) {
+        final ProjectilePayload payload = ATTACHED.get(projectile);
+        return payload != null ? payload : of(projectile.getSourceItem());
+    }
+}
@@ -0,0 +1,98 @@
+package net.Indyuce.mmoitems.api.interaction.projectile;
+
+import net.Indyuce.mmoitems.MMOItems;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Ticks every live {@link TickingProjectile} using one single scheduler
+ * task, which only runs while there are projectiles to update.
+ * <p>
+ * It also limits how many cosmetic particle effects can be displayed
+ * every tick, and only displays them if a player is close enough.
+ */
+public class ProjectileTicker implements Runnable {
+    private TickingProjectile[] projectiles = new TickingProjectile[64];
+    private int size;
+    private int particleBudget;
+    private BukkitTask task;
+
+    private static final ProjectileTicker INSTANCE = new ProjectileTicker();
+
+    public static ProjectileTicker getInstance() {
+        return INSTANCE;
+    }
+
+    public void register(@NotNull TickingProjectile projectile) {
+        if (size == projectiles.length) projectiles = Arrays.copyOf(projectiles, size * 2);
+        projectiles[size++] = projectile;
+
+        if (task == null) task = MMOItems.plugin.getServer().getScheduler().runTaskTimer(MMOItems.plugin, this, 1, 1);
+    }
+
+    /**
+     * @return Amount of projectiles currently being ticked
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public void run() {
+        final int budget = MMOItems.plugin.getLanguage().projectileParticleBudget;
+        particleBudget = budget < 0 ? Integer.MAX_VALUE : budget;
+
+        // Tick projectiles and move live ones to the start of the array
+        int alive = 0;
+        for (int i = 0; i < size; i++) {
+            final TickingProjectile projectile = projectiles[i];
+            if (!projectile.isCancelled())
+                try {
+                    projectile.tick();
+                } catch (RuntimeException exception) {
+                    MMOItems.plugin.getLogger().log(Level.WARNING, "Could not tick projectile", exception);
+                    projectile.cancel();
+                }
+
+            if (!projectile.isCancelled()) projectiles[alive++] = projectile;
+        }
+        Arrays.fill(projectiles, alive, size, null);
+        size = alive;
+
+        if (size == 0) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Cosmetic particles should only be displayed if this returns true.
+     *
+     * @param location Where particles would be displayed
+     * @return If the per-tick particle budget is not exhausted yet and
+     *         some player is close enough to see the particles
+     */
+    public boolean canDisplayParticles(@NotNull Location location) {
+        if (particleBudget <= 0) return false;
+
+        final double maxDistance = MMOItems.plugin.getLanguage().projectileParticleViewDistance;
+        if (maxDistance > 0) {
+            final double maxDistanceSquared = maxDistance * maxDistance;
+            boolean found = false;
+            for (Player player : location.getWorld().getPlayers())
+                if (player.getLocation().distanceSquared(location) < maxDistanceSquared) {
+                    found = true;
+                    break;
+                }
+            if (!found) return false;
+        }
+
+        particleBudget--;
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package net.Indyuce.mmoitems.api.interaction.projectile;
+
+/**
+ * Something that needs to be updated every tick until it is cancelled,
+ * like projectile particles or lute notes. Instead of each having their
+ * own scheduler task, they are all ticked by the {@link ProjectileTicker}.
+ * <p>
+ * Like Bukkit runnables, cancelling does not stop the current tick, it
+ * only prevents the next ones.
+ */
+public abstract class TickingProjectile {
+    private boolean cancelled;
+
+    /**
+     * Called every tick until cancelled. Registered projectiles
+     * are ticked for the first time on the next server tick.
+     */
+    public abstract void tick();
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Starts ticking that projectile. Must be called on the main thread
+     */
+    public void register() {
+        ProjectileTicker.getInstance().register(this);
+    }
+}
@@ -0,0 +1,190 @@
+package net.Indyuce.mmoitems.api.interaction.util;
+
+import io.lumine.mythic.lib.version.Sounds;
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.event.BouncingCrackBlockBreakEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+
+/**
+ * Breaks blocks for tool abilities like 'Bouncing Crack', using one single
+ * scheduler task which only runs while there are blocks to break.
+ * <p>
+ * Every job breaks at most one block per tick, and no more than the
+ * configured amount of blocks are broken every tick over all jobs.
+ * Jobs which could not be processed due to that limit are delayed
+ * to the next tick.
+ */
+public class AreaBreakExecutor implements Runnable {
+    private final Deque<BouncingCrack> jobs = new ArrayDeque<>();
+    private BukkitTask task;
+    private long queuedBlocks, processedBlocks;
+
+    private static final AreaBreakExecutor INSTANCE = new AreaBreakExecutor();
+
+    private static final BlockFace[] NEIGHBORS = {BlockFace.NORTH, BlockFace.DOWN, BlockFace.EAST, BlockFace.UP, BlockFace.WEST, BlockFace.SOUTH};
+    private static final int[][] OFFSETS = new int[NEIGHBORS.length][];
+
+    static {
+        for (int i = 0; i < NEIGHBORS.length; i++)
+            OFFSETS[i] = new int[]{NEIGHBORS[i].getModX(), NEIGHBORS[i].getModY(), NEIGHBORS[i].getModZ()};
+    }
+
+    public static AreaBreakExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts breaking blocks in the direction the player is looking at
+     *
+     * @param player Player using the tool
+     * @param tool   Tool used to break blocks
+     * @param block  Block initially broken by the player
+     * @param blocks Amount of blocks to break
+     */
+    public void bouncingCrack(@NotNull Player player, @NotNull ItemStack tool, @NotNull Block block, int blocks) {
+        jobs.addLast(new BouncingCrack(player, tool, block, blocks));
+        queuedBlocks += blocks;
+
+        if (task == null) task = MMOItems.plugin.getServer().getScheduler().runTaskTimer(MMOItems.plugin, this, 1, 1);
+    }
+
+    /**
+     * @return Total amount of blocks that were queued to be broken
+     */
+    public long getQueuedBlocks() {
+        return queuedBlocks;
+    }
+
+    /**
+     * @return Total amount of blocks that were processed, either broken
+     *         or skipped, including blocks of cancelled jobs
+     */
+    public long getProcessedBlocks() {
+        return processedBlocks;
+    }
+
+    @Override
+    public void run() {
+        final int budget = MMOItems.plugin.getLanguage().areaBreakBudget;
+        int processed = 0;
+
+        // Process every job once at most, continuing from last tick
+        for (int size = jobs.size(); size > 0 && (budget < 0 || processed < budget); size--) {
+            final BouncingCrack job = jobs.pollFirst();
+            processed++;
+
+            try {
+                if (job.step()) jobs.addLast(job);
+                else processedBlocks += job.remaining;
+            } catch (RuntimeException exception) {
+                MMOItems.plugin.getLogger().log(Level.WARNING, "Could not break blocks", exception);
+                processedBlocks += job.remaining;
+            }
+        }
+
+        if (jobs.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private class BouncingCrack {
+        private final Player player;
+        private final ItemStack tool;
+        private final World world;
+        private final double[] costs = new double[NEIGHBORS.length];
+
+        // Line followed by the crack
+        private final double originX, originY, originZ, dirX, dirY, dirZ, dirLength;
+
+        private int x, y, z, remaining;
+
+        BouncingCrack(Player player, ItemStack tool, Block block, int blocks) {
+            this.player = player;
+            this.tool = tool;
+            this.world = block.getWorld();
+            this.x = block.getX();
+            this.y = block.getY();
+            this.z = block.getZ();
+            this.remaining = blocks;
+
+            final Vector direction = player.getEyeLocation().getDirection();
+            dirX = direction.getX();
+            dirY = direction.getY();
+            dirZ = direction.getZ();
+            dirLength = direction.length();
+            originX = x + .5;
+            originY = y + .5;
+            originZ = z + .5;
+
+            // Neighbors facing the same direction as the player are preferred
+            for (int i = 0; i < NEIGHBORS.length; i++)
+                costs[i] = -(OFFSETS[i][0] * dirX + OFFSETS[i][1] * dirY + OFFSETS[i][2] * dirZ);
+        }
+
+        /**
+         * @return If the job should keep going
+         */
+        boolean step() {
+            if (!player.isOnline()) return false;
+
+            remaining--;
+            processedBlocks++;
+            moveToBestBlock();
+
+            final Block curr = world.getBlockAt(x, y, z);
+            if (curr.getType() != Material.AIR && !MMOItems.plugin.getLanguage().isBlacklisted(curr.getType())) {
+                final BlockBreakEvent breakEvent = new BouncingCrackBlockBreakEvent(curr, player);
+                Bukkit.getPluginManager().callEvent(breakEvent);
+                if (breakEvent.isCancelled()) return false;
+
+                curr.breakNaturally(tool);
+                world.playSound(curr.getLocation(), Sounds.BLOCK_GRAVEL_BREAK, 1, 1);
+            }
+
+            return remaining > 0;
+        }
+
+        private void moveToBestBlock() {
+            int best = 0;
+            double cost = Double.MAX_VALUE;
+
+            for (int i = 0; i < NEIGHBORS.length; i++) {
+                final double candidateCost = distanceToLine(x + OFFSETS[i][0] + .5, y + OFFSETS[i][1] + .5, z + OFFSETS[i][2] + .5) + costs[i];
+                if (candidateCost < cost) {
+                    cost = candidateCost;
+                    best = i;
+                }
+            }
+
+            x += OFFSETS[best][0];
+            y += OFFSETS[best][1];
+            z += OFFSETS[best][2];
+        }
+
+        /**
+         * d(A, line) = norm(OA x dir) / norm(dir)
+         *
+         * @return Distance from given point to the crack line
+         */
+        private double distanceToLine(double ax, double ay, double az) {
+            final double ox = originX - ax, oy = originY - ay, oz = originZ - az;
+            final double cx = oy * dirZ - oz * dirY, cy = oz * dirX - ox * dirZ, cz = ox * dirY - oy * dirX;
+            return Math.sqrt(cx * cx + cy * cy + cz * cz) / dirLength;
+        }
+    }
+}
@@ -153,7 +153,8 @@ public class CustomDurabilityItem extends DurabilityItem {
     private ItemStack updateDurabilityLore(@NotNull ItemStack item, @NotNull ItemMeta meta, @NotNull String oldLine, @NotNull String newLine, @NotNull String rawFormat) {
 
         final List<String> beforeLore = meta.getLore() == null ? null : new ArrayList<>(meta.getLore());
-        final ItemStack updated = new LoreUpdate(item, meta, nbtItem, oldLine, newLine).updateLore();
+        final ItemStack updated = new LoreUpdate(item, meta, nbtItem, oldLine, newLine)
+                .region(ItemStats.MAX_DURABILITY.getNBTPath(), initialDurability, durability).updateLore();
 
         final ItemMeta updatedMeta = updated.getItemMeta();
         final List<String> afterLore = updatedMeta.getLore();
@@ -222,7 +222,7 @@ public class Weapon extends UseItem {
 
         // Attack is ready to be performed.
         // Apply weapon costs
-        final double attackDelay = 1 / requireNonZero(meta.getCaster().getStat("ATTACK_SPEED"), MMOItems.plugin.getConfig().getDouble("default.attack-speed"));
+        final double attackDelay = 1 / requireNonZero(meta.getCaster().getStat("ATTACK_SPEED"), MMOItems.plugin.getLanguage().defaultAttackSpeed);
         applyWeaponCosts(attackDelay);
 
         // Apply weapon attack effect
@@ -264,7 +264,7 @@ public class Weapon extends UseItem {
 
         // Attack is ready to be performed.
         // Apply weapon costs
-        final double attackDelay = 1 / requireNonZero(stats.getStat("ATTACK_SPEED"), MMOItems.plugin.getConfig().getDouble("default.attack-speed"));
+        final double attackDelay = 1 / requireNonZero(stats.getStat("ATTACK_SPEED"), MMOItems.plugin.getLanguage().defaultAttackSpeed);
         applyWeaponCosts(attackDelay);
 
         // Apply weapon attack effect
@@ -8,6 +8,7 @@ import io.lumine.mythic.lib.damage.DamageType;
 import io.lumine.mythic.lib.player.PlayerMetadata;
 import io.lumine.mythic.lib.version.Sounds;
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.interaction.projectile.TickingProjectile;
 import net.Indyuce.mmoitems.api.interaction.weapon.Weapon;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.api.util.SoundReader;
@@ -18,7 +19,6 @@ import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,7 +44,7 @@ public class Lute extends Weapon implements LegacyWeapon {
     @Override
     public void applyAttackEffect(PlayerMetadata stats, EquipmentSlot slot) {
         final double attackDamage = requireNonZero(stats.getStat("ATTACK_DAMAGE"), 7);
-        final double range = requireNonZero(stats.getStat("RANGE"), MMOItems.plugin.getConfig().getDouble("default.range"));
+        final double range = requireNonZero(stats.getStat("RANGE"), MMOItems.plugin.getLanguage().defaultRange);
         final Vector weight = new Vector(0, -.003 * stats.getStat("NOTE_WEIGHT"), 0);
 
         final @Nullable LuteAttackEffect effect = LuteAttackEffect.get(getNBTItem());
@@ -59,12 +59,13 @@ public class Lute extends Weapon implements LegacyWeapon {
         }
 
         // Basic lute attack
-        new BukkitRunnable() {
+        new TickingProjectile() {
             final Vector vec = getPlayer().getEyeLocation().getDirection().multiply(.4);
             final Location loc = getPlayer().getEyeLocation();
             int ti = 0;
 
-            public void run() {
+            @Override
+            public void tick() {
                 if (ti++ > range)
                     cancel();
 
@@ -91,6 +92,6 @@ public class Lute extends Weapon implements LegacyWeapon {
                         }
                 }
             }
-        }.runTaskTimer(MMOItems.plugin, 0, 1);
+        }.register();
     }
 }
@@ -33,8 +33,8 @@ public class Musket extends Weapon implements LegacyWeapon {
 
     @Override
     public void applyAttackEffect(PlayerMetadata stats, EquipmentSlot slot) {
-        final double range = requireNonZero(stats.getStat("RANGE"), MMOItems.plugin.getConfig().getDouble("default.range"));
-        final double recoil = requireNonZero(stats.getStat("RECOIL"), MMOItems.plugin.getConfig().getDouble("default.recoil"));
+        final double range = requireNonZero(stats.getStat("RANGE"), MMOItems.plugin.getLanguage().defaultRange);
+        final double recoil = requireNonZero(stats.getStat("RECOIL"), MMOItems.plugin.getLanguage().defaultRecoil);
 
         // knockback
         final double knockback = stats.getStat("KNOCKBACK");
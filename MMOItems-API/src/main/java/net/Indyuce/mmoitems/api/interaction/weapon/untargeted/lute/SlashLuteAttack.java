@@ -5,14 +5,13 @@ import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.comp.interaction.InteractionType;
 import io.lumine.mythic.lib.damage.DamageType;
 import io.lumine.mythic.lib.player.PlayerMetadata;
-import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.interaction.projectile.TickingProjectile;
 import net.Indyuce.mmoitems.api.util.SoundReader;
 import net.Indyuce.mmoitems.stat.data.ProjectileParticlesData;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -21,12 +20,13 @@ public class SlashLuteAttack implements LuteAttackHandler {
 
     @Override
     public void handle(PlayerMetadata caster, double damage, NBTItem nbt, double range, @NotNull Vector weight, @NotNull SoundReader sound, @NotNull ProjectileParticlesData projParticle) {
-        new BukkitRunnable() {
+        new TickingProjectile() {
             final Vector vec = caster.getPlayer().getEyeLocation().getDirection();
             final Location loc = caster.getPlayer().getLocation().add(0, 1.3, 0);
             double ti = 1;
 
-            public void run() {
+            @Override
+            public void tick() {
                 if ((ti += .6) > 5) cancel();
 
                 sound.play(loc, 2, (float) (.5 + ti / range));
@@ -39,7 +39,7 @@ public class SlashLuteAttack implements LuteAttackHandler {
                         projParticle.shootParticle(loc.clone().add(loc.getDirection().multiply(1.5 * ti)));
                     }
             }
-        }.runTaskTimer(MMOItems.plugin, 0, 1);
+        }.register();
 
         for (Entity entity : MMOUtils.getNearbyChunkEntities(caster.getPlayer().getLocation()))
             if (entity.getLocation().distanceSquared(caster.getPlayer().getLocation()) < 40
@@ -5,14 +5,13 @@ import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.comp.interaction.InteractionType;
 import io.lumine.mythic.lib.damage.DamageType;
 import io.lumine.mythic.lib.player.PlayerMetadata;
-import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.interaction.projectile.TickingProjectile;
 import net.Indyuce.mmoitems.api.util.SoundReader;
 import net.Indyuce.mmoitems.stat.data.ProjectileParticlesData;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -23,12 +22,13 @@ public class WaveLuteAttack implements LuteAttackHandler {
 
     @Override
     public void handle(PlayerMetadata caster, double damage, NBTItem nbt, double range, @NotNull Vector weight, @NotNull SoundReader sound, @NotNull ProjectileParticlesData projParticle) {
-        new BukkitRunnable() {
+        new TickingProjectile() {
             final Vector vec = caster.getPlayer().getEyeLocation().getDirection().multiply(.4);
             final Location loc = caster.getPlayer().getEyeLocation();
             int ti = 0;
 
-            public void run() {
+            @Override
+            public void tick() {
                 if (ti++ > range) cancel();
 
                 List<Entity> entities = MMOUtils.getNearbyChunkEntities(loc);
@@ -54,7 +54,7 @@ public class WaveLuteAttack implements LuteAttackHandler {
                         }
                 }
             }
-        }.runTaskTimer(MMOItems.plugin, 0, 1);
+        }.register();
     }
 }
 
@@ -15,6 +15,7 @@ import net.Indyuce.mmoitems.api.event.GenerateLoreEvent;
 import net.Indyuce.mmoitems.api.event.ItemBuildEvent;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
 import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
+import net.Indyuce.mmoitems.api.item.util.LoreUpdate;
 import net.Indyuce.mmoitems.item.build.BuildMetadata;
 import net.Indyuce.mmoitems.stat.data.MaterialData;
 import net.Indyuce.mmoitems.stat.data.StringData;
@@ -157,6 +158,16 @@ public class ItemStackBuilder {
         tags.addAll(Arrays.asList(itemTags));
     }
 
+    /**
+     * @return Item tags which have been added so far. This list
+     *         is mutable and is directly used when building the item.
+     */
+    @NotNull
+    @ApiStatus.Internal
+    public List<ItemTag> getItemTags() {
+        return tags;
+    }
+
     public static final String history_keyword = "HSTRY_";
 
     /**
@@ -288,6 +299,11 @@ public class ItemStackBuilder {
         event.getParsedLore().forEach(array::add);
         if (!array.isEmpty()) tags.add(new ItemTag("MMOITEMS_DYNAMIC_LORE", array.toString()));
 
+        // Position of lore lines updated without rebuilding the item
+        final List<String> builtLore = meta.getLore();
+        final String dynamicRegions = builtLore == null ? null : lore.locateDynamicRegions(builtLore);
+        if (dynamicRegions != null) tags.add(new ItemTag(LoreUpdate.REGIONS_TAG, dynamicRegions));
+
         /*
          * This tag is added to entirely override default vanilla item attribute
          * modifiers, this way armor gives no ARMOR or ARMOR TOUGHNESS to the holder.
@@ -0,0 +1,353 @@
+package net.Indyuce.mmoitems.api.item.build;
+
+import io.lumine.mythic.lib.UtilityMethods;
+import io.lumine.mythic.lib.api.item.ItemTag;
+import io.lumine.mythic.lib.api.item.NBTItem;
+import io.lumine.mythic.lib.gson.JsonArray;
+import io.lumine.mythic.lib.util.AdventureUtils;
+import net.Indyuce.mmoitems.ItemStats;
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.event.GenerateLoreEvent;
+import net.Indyuce.mmoitems.api.event.ItemBuildEvent;
+import net.Indyuce.mmoitems.api.item.mmoitem.ReadMMOItem;
+import net.Indyuce.mmoitems.api.item.util.LoreUpdate;
+import net.Indyuce.mmoitems.stat.data.BooleanData;
+import net.Indyuce.mmoitems.stat.data.DoubleData;
+import net.Indyuce.mmoitems.stat.data.type.StatData;
+import net.Indyuce.mmoitems.stat.type.BooleanStat;
+import net.Indyuce.mmoitems.stat.type.DoubleStat;
+import net.Indyuce.mmoitems.stat.type.ItemStat;
+import net.Indyuce.mmoitems.stat.type.StatHistory;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies stat changes onto an item stack that has already been built,
+ * without running the whole {@link ItemStackBuilder} pipeline again. Only
+ * the NBT tags, stat histories and lore lines of the patched stats are
+ * rewritten, everything else on the item is left untouched.
+ * <p>
+ * Call {@link #snapshot(ItemStat)} for every stat that is about to change
+ * BEFORE editing the MMOItem, edit the MMOItem, then call {@link #build()}.
+ * When some change cannot be patched (no lore anchor, tooltip textures,
+ * lore listeners...), {@link #build()} returns null and the caller is
+ * expected to fully rebuild the item instead.
+ * <p>
+ * Stats gaining or losing all their lore lines, like an item becoming
+ * soulbound, are located using the item lore format. Lines of the
+ * neighboring stats are generated again to find where the stat lines
+ * go, and lore bars are added or removed like the lore builder does.
+ */
+public class ItemStackPatcher {
+    private final ReadMMOItem mmoitem;
+    private final ItemStackBuilder scratch;
+    private final Map<ItemStat<?, ?>, List<String>> previousLines = new LinkedHashMap<>();
+
+    private boolean patchable;
+
+    private static final Map<Class<?>, Boolean> PATCHABLE_STATS = new ConcurrentHashMap<>();
+
+    public ItemStackPatcher(@NotNull ReadMMOItem mmoitem) {
+        this.mmoitem = mmoitem;
+
+        // Partially read items only load stats when checked
+        mmoitem.hasData(ItemStats.TIER);
+        mmoitem.hasData(ItemStats.TOOLTIP);
+        this.scratch = new ItemStackBuilder(mmoitem);
+
+        /*
+         * Tooltip textures bake every lore line depending on its
+         * position, and lore listeners can edit lines in any way.
+         */
+        this.patchable = scratch.getContext().resolveTooltip(scratch) == null
+                && GenerateLoreEvent.getHandlerList().getRegisteredListeners().length == 0;
+    }
+
+    public boolean isPatchable() {
+        return patchable;
+    }
+
+    /**
+     * Saves the lore lines of a stat before it is edited.
+     *
+     * @param stat Stat about to be edited
+     */
+    public void snapshot(@NotNull ItemStat<?, ?> stat) {
+        if (!patchable) return;
+
+        if (!supportsPatching(stat)) {
+            patchable = false;
+            return;
+        }
+
+        // Load what is needed to display that stat
+        mmoitem.hasData(stat);
+        mmoitem.loadStatHistory(stat);
+
+        final StatData data = mmoitem.getData(stat);
+        previousLines.put(stat, data == null ? Collections.emptyList() : render(stat, data));
+    }
+
+    /**
+     * @return Patched item stack, or null if the item must be fully rebuilt
+     */
+    @Nullable
+    public ItemStack build() {
+        if (!patchable) return null;
+
+        final ItemStack item = mmoitem.getNBT().getItem().clone();
+        final ItemMeta meta = item.getItemMeta();
+        final List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
+        final List<ItemTag> tags = new ArrayList<>();
+        final List<String> removedTags = new ArrayList<>();
+
+        // Lines currently displayed by patched stats
+        final Map<ItemStat<?, ?>, List<String>> currentLines = new HashMap<>(previousLines);
+
+        for (Map.Entry<ItemStat<?, ?>, List<String>> entry : previousLines.entrySet()) {
+            final ItemStat<?, ?> stat = entry.getKey();
+            final List<String> before = entry.getValue();
+            final StatData data = mmoitem.getData(stat);
+            final List<String> after = data == null ? Collections.emptyList() : render(stat, data);
+            final List<ItemTag> statTags = data == null ? Collections.emptyList() : new ArrayList<>(scratch.getItemTags());
+
+            if (!before.equals(after)) {
+                if (!patchLore(lore, stat, before, after, currentLines)) return null;
+                currentLines.put(stat, after);
+            }
+
+            // NBT tags and stat history
+            removedTags.add(stat.getNBTPath());
+            tags.addAll(statTags);
+            final StatHistory history = mmoitem.getStatHistory(stat);
+            if (history != null && !history.isEmpty())
+                tags.add(new ItemTag(ItemStackBuilder.history_keyword + stat.getId(), history.toNBTString()));
+            else removedTags.add(ItemStackBuilder.history_keyword + stat.getId());
+        }
+
+        AdventureUtils.setLore(meta, lore);
+        item.setItemMeta(meta);
+
+        // Kept up to date like in ItemStackBuilder
+        final JsonArray array = new JsonArray();
+        lore.forEach(array::add);
+        if (!array.isEmpty()) tags.add(new ItemTag("MMOITEMS_DYNAMIC_LORE", array.toString()));
+        if (mmoitem.getNBT().hasTag(LoreUpdate.REGIONS_TAG))
+            tags.add(new ItemTag(LoreUpdate.REGIONS_TAG, LoreUpdate.Region.relocate(mmoitem.getNBT().getString(LoreUpdate.REGIONS_TAG), lore)));
+
+        final NBTItem nbt = NBTItem.get(item);
+        nbt.removeTag(removedTags.toArray(new String[0]));
+        final ItemBuildEvent event = new ItemBuildEvent(nbt.addTag(tags).toItem());
+        Bukkit.getPluginManager().callEvent(event);
+        return event.getItemStack();
+    }
+
+    /**
+     * Lore lines and NBT tags of the given stat, as they would
+     * be generated by the item stack builder.
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> render(@NotNull ItemStat stat, @NotNull StatData data) {
+        final LoreBuilder lore = scratch.getLore();
+        lore.setLore(Collections.singletonList("#" + getLoreAnchor(stat) + "#"));
+        scratch.getItemTags().clear();
+
+        stat.whenApplied(scratch, data);
+        return lore.parseLines(lore.getLore());
+    }
+
+    private boolean patchLore(@NotNull List<String> lore, @NotNull ItemStat<?, ?> stat, @NotNull List<String> before,
+                              @NotNull List<String> after, @NotNull Map<ItemStat<?, ?>, List<String>> currentLines) {
+
+        // Stat lines are replaced
+        if (!before.isEmpty() && !after.isEmpty()) {
+            final int index = indexOf(lore, before);
+            if (index < 0) return false;
+
+            lore.subList(index, index + before.size()).clear();
+            lore.addAll(index, after);
+            return true;
+        }
+
+        final LoreSlot slot = locate(lore, stat, currentLines);
+        if (slot == null) return false;
+
+        // Stat lines are added
+        if (before.isEmpty()) {
+            lore.addAll(slot.index, after);
+            if (slot.bar != null) lore.addAll(slot.index, slot.bar);
+            return true;
+        }
+
+        // Stat lines are removed
+        int from = indexOf(lore, before);
+        if (from < 0) return false;
+        final int to = from + before.size();
+        if (slot.bar != null) {
+            from -= slot.bar.size();
+            if (from < 0 || indexOf(lore.subList(from, to), slot.bar) != 0) return false;
+        }
+        lore.subList(from, to).clear();
+        return true;
+    }
+
+    /**
+     * Finds where the lines of a stat go in the item lore, by going
+     * through the lore format from the stat placeholder. Only lines
+     * which are known to be empty or which can be generated again
+     * are skipped, otherwise the stat cannot be located.
+     *
+     * @param lore         Item lore being patched
+     * @param stat         Stat which is gaining or losing all its lines
+     * @param currentLines Lines currently displayed by patched stats
+     * @return Position of the stat lines, or null if it cannot be found
+     */
+    @Nullable
+    private LoreSlot locate(@NotNull List<String> lore, @NotNull ItemStat<?, ?> stat, @NotNull Map<ItemStat<?, ?>, List<String>> currentLines) {
+        final List<String> format = MMOItems.plugin.getLore().getFormat(mmoitem);
+        final int anchor = format.indexOf("#" + getLoreAnchor(stat) + "#");
+        if (anchor < 0) return null;
+
+        // Look for other content in the same category, before the stat
+        boolean alone = true;
+        int start = anchor - 1;
+        for (; start >= 0 && format.get(start).startsWith("#"); start--) {
+            final List<String> lines = getLines(format.get(start), currentLines);
+            if (lines == null) return null;
+            if (!lines.isEmpty()) alone = false;
+        }
+
+        // Lore bar of the category
+        final List<String> bar = new ArrayList<>();
+        for (int i = start; i >= 0 && format.get(i).startsWith("{bar}"); i--)
+            bar.add(0, format.get(i).substring(5));
+        if (bar.isEmpty() && start >= 0) alone = false;
+
+        // First displayed line after the stat
+        final List<String> nextBar = new ArrayList<>();
+        for (int i = anchor + 1; i < format.size(); i++) {
+            final String line = format.get(i);
+
+            if (line.startsWith("{bar}")) {
+                if (!format.get(i - 1).startsWith("{bar}")) nextBar.clear();
+                nextBar.add(line.substring(5));
+                continue;
+            }
+
+            // Literal lines or super bars
+            if (!line.startsWith("#")) return null;
+
+            final List<String> lines = getLines(line, currentLines);
+            if (lines == null) return null;
+            if (lines.isEmpty()) continue;
+
+            int index = indexOf(lore, lines);
+            if (index < 0) return null;
+
+            // Lines are in another category, which has its bar displayed
+            if (!nextBar.isEmpty()) {
+                final List<String> parsedBar = scratch.getLore().parseLines(nextBar);
+                index -= parsedBar.size();
+                if (index < 0 || indexOf(lore.subList(index, index + parsedBar.size()), parsedBar) != 0) return null;
+            } else alone = false;
+
+            return new LoreSlot(index, alone && !bar.isEmpty() ? scratch.getLore().parseLines(bar) : null);
+        }
+
+        return new LoreSlot(lore.size(), alone && !bar.isEmpty() ? scratch.getLore().parseLines(bar) : null);
+    }
+
+    /**
+     * @param placeholder Some lore format line, like #attack-damage#
+     * @return Lines displayed at this placeholder, or null if they cannot be generated
+     */
+    @Nullable
+    private List<String> getLines(@NotNull String placeholder, @NotNull Map<ItemStat<?, ?>, List<String>> currentLines) {
+        if (placeholder.length() < 2 || !placeholder.endsWith("#")) return Collections.emptyList();
+
+        final String path = placeholder.substring(1, placeholder.length() - 1);
+        final ItemStat<?, ?> stat = path.equals("gem-stones") ? ItemStats.GEM_SOCKETS : MMOItems.plugin.getStats().get(UtilityMethods.enumName(path));
+
+        // Nothing is inserted at unused placeholders
+        if (stat == null || !getLoreAnchor(stat).equals(path)) return Collections.emptyList();
+
+        final List<String> current = currentLines.get(stat);
+        if (current != null) return current;
+
+        if (!mmoitem.hasData(stat)) return Collections.emptyList();
+        if (!supportsPatching(stat)) return null;
+        return render(stat, mmoitem.getData(stat));
+    }
+
+    @NotNull
+    private static String getLoreAnchor(@NotNull ItemStat<?, ?> stat) {
+        return stat == ItemStats.GEM_SOCKETS ? "gem-stones" : stat.getPath();
+    }
+
+    private static int indexOf(@NotNull List<String> lore, @NotNull List<String> lines) {
+        outer:
+        for (int i = 0; i <= lore.size() - lines.size(); i++) {
+            for (int j = 0; j < lines.size(); j++)
+
+                // Color codes are not kept as is by item metas
+                if (!Objects.equals(ChatColor.stripColor(lore.get(i + j)), ChatColor.stripColor(lines.get(j))))
+                    continue outer;
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Only stats which insert lore lines at their own lore
+     * format placeholder and only add NBT tags, without
+     * editing the item meta, can be patched. That is the
+     * case of gem sockets, soulbound data and numeric or
+     * boolean stats that do not override the default display.
+     *
+     * @param stat Some item stat
+     * @return If that stat can be applied with a patcher
+     */
+    public static boolean supportsPatching(@NotNull ItemStat<?, ?> stat) {
+        if (stat == ItemStats.GEM_SOCKETS || stat == ItemStats.SOULBOUND || stat == ItemStats.AUTO_BIND_ON_USE) return true;
+
+        final Class<?> parent, dataClass;
+        if (stat instanceof DoubleStat) {
+            parent = DoubleStat.class;
+            dataClass = DoubleData.class;
+        } else if (stat instanceof BooleanStat) {
+            parent = BooleanStat.class;
+            dataClass = BooleanData.class;
+        } else return false;
+
+        return PATCHABLE_STATS.computeIfAbsent(stat.getClass(), clazz -> {
+            try {
+                return clazz.getMethod("whenApplied", ItemStackBuilder.class, dataClass).getDeclaringClass() == parent;
+            } catch (NoSuchMethodException exception) {
+                return false;
+            }
+        });
+    }
+
+    private static class LoreSlot {
+        private final int index;
+
+        /**
+         * Lore bar lines, only when the category has no other content
+         */
+        @Nullable
+        private final List<String> bar;
+
+        LoreSlot(int index, @Nullable List<String> bar) {
+            this.index = index;
+            this.bar = bar;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.lumine.mythic.lib.util.annotation.BackwardsCompatibility;
 import io.lumine.mythic.lib.util.formula.NumericalExpression;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.ItemTier;
+import net.Indyuce.mmoitems.api.item.util.LoreUpdate;
 import net.Indyuce.mmoitems.tooltip.TooltipTexture;
 import net.Indyuce.mmoitems.util.Buildable;
 import net.Indyuce.mmoitems.util.MMOUtils;
@@ -29,6 +30,7 @@ public class LoreBuilder extends Buildable<List<String>> {
     private final List<String> lore = new ArrayList<>();
     private final List<String> end = new ArrayList<>();
     private final Map<String, String> placeholders = new HashMap<>();
+    private final Map<String, String[]> dynamicRegions = new LinkedHashMap<>();
 
     public LoreBuilder(@NotNull ItemStackBuilder builder) {
         this.parent = builder;
@@ -95,6 +97,36 @@ public class LoreBuilder extends Buildable<List<String>> {
         lore.remove(index);
     }
 
+    /**
+     * Registers a part of the lore which can be updated without rebuilding
+     * the item, like the current custom durability. Its position is saved
+     * in the item NBT once the item is built, see {@link LoreUpdate}.
+     *
+     * @param id          Region ID, usually the NBT path of the stat
+     * @param format      Lore line inserted by the stat, with the value placeholder
+     * @param placeholder Value placeholder, for instance {current}
+     * @param value       Value currently displayed
+     */
+    public void registerDynamicRegion(@NotNull String id, @NotNull String format, @NotNull String placeholder, @NotNull Object value) {
+        dynamicRegions.put(id, new String[]{format, placeholder, String.valueOf(value)});
+    }
+
+    /**
+     * @param builtLore Item lore, as read from the item meta
+     * @return Value of the NBT tag saving dynamic regions, or null if there are none
+     */
+    @Nullable
+    public String locateDynamicRegions(@NotNull List<String> builtLore) {
+        if (dynamicRegions.isEmpty()) return null;
+
+        final Map<String, LoreUpdate.Region> located = new LinkedHashMap<>();
+        dynamicRegions.forEach((id, region) -> {
+            final LoreUpdate.Region found = LoreUpdate.Region.locate(builtLore, region[0], region[1], region[2]);
+            if (found != null) located.put(id, found);
+        });
+        return located.isEmpty() ? null : LoreUpdate.Region.toNBTString(located);
+    }
+
     /**
      * Registers a placeholder. All placeholders registered will be parsed when
      * using applyLorePlaceholders(String)
@@ -263,6 +295,35 @@ public class LoreBuilder extends Buildable<List<String>> {
         return lore;
     }
 
+    /**
+     * Applies the same placeholder parsing and line breaking as {@link #build()}
+     * to a few lines, without touching the lore being built. This is used to
+     * know exactly what some stat lines look like in a built item lore, in order
+     * to patch them. Lore bars and tooltip textures are not supported.
+     *
+     * @param lines Raw lines, as inserted by item stats
+     * @return Lines as they appear in an item lore
+     */
+    @NotNull
+    public List<String> parseLines(@NotNull List<String> lines) {
+        final List<String> parsed = new ArrayList<>();
+        for (String line : lines) {
+
+            // Unused static placeholders
+            if (line.startsWith("#")) continue;
+
+            line = MythicLib.plugin.getPlaceholderParser().parse(null, line);
+            line = applySpecialPlaceholders(line);
+
+            final String match = MMOUtils.substringBetween(line, "MATH%", "%");
+            if (match != null) line = line.replaceFirst("MATH\\%[^%]*\\%", evaluateMathFormula(match));
+
+            for (String subline : line.split("\n", -1))
+                parsed.add(LINE_PREFIX + subline);
+        }
+        return parsed;
+    }
+
     @NotNull
     private LineType getType(int index) {
         return getType(index, lore.get(index));
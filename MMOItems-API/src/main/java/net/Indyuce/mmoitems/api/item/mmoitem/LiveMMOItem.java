@@ -2,10 +2,6 @@ package net.Indyuce.mmoitems.api.item.mmoitem;
 
 import java.util.logging.Level;
 
-import io.lumine.mythic.lib.api.item.ItemTag;
-import io.lumine.mythic.lib.api.item.SupportedNBTTagValues;
-import net.Indyuce.mmoitems.api.item.build.ItemStackBuilder;
-import net.Indyuce.mmoitems.stat.type.StatHistory;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 
@@ -50,21 +46,8 @@ public class LiveMMOItem extends ReadMMOItem {
                 // Will not do much if the stat is missing from the item
                 stat.whenLoaded(this);
 
-                // History not prematurely loaded?
-                if (!hasStatHistory(stat)) {
-
-                    // Also load history :think ing:
-                    ItemTag hisTag = ItemTag.getTagAtPath(ItemStackBuilder.history_keyword + stat.getId(), getNBT(), SupportedNBTTagValues.STRING);
-
-                    if (hisTag != null) {
-                        // Aye
-                        StatHistory hist = StatHistory.fromNBTString(this, (String) hisTag.getValue());
-
-                        // History valid? Record
-                        if (hist != null)
-                            this.setStatHistory(stat, hist);
-                    }
-                }
+                // Also load history :think ing:
+                loadStatHistory(stat);
 
                 // Some unknown error happened
             } catch (IllegalArgumentException exception) {
@@ -1,9 +1,14 @@
 package net.Indyuce.mmoitems.api.item.mmoitem;
 
+import io.lumine.mythic.lib.api.item.ItemTag;
 import io.lumine.mythic.lib.api.item.NBTItem;
+import io.lumine.mythic.lib.api.item.SupportedNBTTagValues;
 import io.lumine.mythic.lib.player.cooldown.CooldownObject;
 import net.Indyuce.mmoitems.ItemStats;
 import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.item.build.ItemStackBuilder;
+import net.Indyuce.mmoitems.stat.type.ItemStat;
+import net.Indyuce.mmoitems.stat.type.StatHistory;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
@@ -57,6 +62,25 @@ public abstract class ReadMMOItem extends MMOItem {
         }
     }
 
+    /**
+     * Reads the stat history of some stat from the item NBT, if it
+     * has not been loaded yet. LiveMMOItems load every stat history
+     * on creation; this lets partially read items only load the
+     * histories they actually need.
+     *
+     * @param stat Stat to load the history of
+     */
+    public void loadStatHistory(@NotNull ItemStat<?, ?> stat) {
+        if (hasStatHistory(stat)) return;
+
+        final ItemTag hisTag = ItemTag.getTagAtPath(ItemStackBuilder.history_keyword + stat.getId(), getNBT(), SupportedNBTTagValues.STRING);
+        if (hisTag == null) return;
+
+        // History valid? Record
+        final StatHistory hist = StatHistory.fromNBTString(this, (String) hisTag.getValue());
+        if (hist != null) setStatHistory(stat, hist);
+    }
+
     @NotNull
     public NBTItem getNBT() {
         return item;
@@ -6,6 +6,7 @@ import io.lumine.mythic.lib.util.PreloadedObject;
 import io.lumine.mythic.lib.util.lang3.Validate;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.item.build.MMOItemBuilder;
+import net.Indyuce.mmoitems.api.util.WeightedSampler;
 import net.Indyuce.mmoitems.stat.data.random.RandomStatData;
 import net.Indyuce.mmoitems.stat.type.ItemStat;
 import org.bukkit.configuration.ConfigurationSection;
@@ -13,6 +14,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 
 /**
@@ -34,7 +36,17 @@ public class ModifierNode implements PreloadedObject {
     @Nullable
     private final Map<ItemStat, RandomStatData> data;
 
-    private static final Random RANDOM = new Random();
+    /**
+     * Used to pick children using their roll chances as weights.
+     * Built the first time it is needed, once children are loaded.
+     */
+    @Nullable
+    private WeightedSampler<Integer> childSampler;
+
+    /**
+     * Draws after which the sampler gives up on rejection sampling
+     */
+    private static final int MAX_SAMPLER_DRAWS = 32;
 
     /**
      * Should not be confused with the parent node. Instead of fully
@@ -175,7 +187,7 @@ public class ModifierNode implements PreloadedObject {
     }
 
     public boolean rollChance() {
-        return RANDOM.nextDouble() < chance;
+        return ThreadLocalRandom.current().nextDouble() < chance;
     }
 
     @Override
@@ -223,7 +235,7 @@ public class ModifierNode implements PreloadedObject {
         // Get deep working copy of children list
         final List<ModifierNode> children = new ArrayList<>(this.children);
         if (builder.getTemplate().hasOption(MMOItemTemplate.TemplateOption.ROLL_MODIFIER_CHECK_ORDER))
-            Collections.shuffle(children);
+            Collections.shuffle(children, ThreadLocalRandom.current());
 
         final int effectiveMax = max <= 0 ? children.size() : Math.min(max, children.size());
         int modifierCount = 0;
@@ -239,9 +251,20 @@ public class ModifierNode implements PreloadedObject {
         }
 
         // If needed, select more using roll chances as probability distribution
-        while (modifierCount < min && !children.isEmpty()) {
-            final ModifierNode node = children.remove(rollModifier(children));
-            if (node.collect(builder, true)) modifierCount++;
+        if (modifierCount < min && !children.isEmpty()) {
+            final Set<ModifierNode> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+            remaining.addAll(children);
+            final boolean[] available = new boolean[this.children.size()];
+            for (int j = 0; j < available.length; j++)
+                available[j] = remaining.contains(this.children.get(j));
+
+            int availableCount = children.size();
+            while (modifierCount < min && availableCount > 0) {
+                final int index = rollModifier(available);
+                available[index] = false;
+                availableCount--;
+                if (this.children.get(index).collect(builder, true)) modifierCount++;
+            }
         }
     }
 
@@ -259,19 +282,39 @@ public class ModifierNode implements PreloadedObject {
         return node;
     }
 
-    private int rollModifier(@NotNull List<ModifierNode> children) {
+    /**
+     * @param available Children which can still be picked, by index
+     * @return Index of the picked child
+     */
+    private int rollModifier(boolean[] available) {
+
+        /*
+         * Draw from all children and retry if the child was already
+         * picked. This follows the same distribution as drawing from
+         * remaining children only.
+         */
+        if (childSampler == null) {
+            final WeightedSampler.Builder<Integer> builder = WeightedSampler.builder();
+            for (int i = 0; i < children.size(); i++)
+                builder.add(i, children.get(i).getChance());
+            if (!builder.isEmpty()) childSampler = builder.build();
+        }
+        if (childSampler != null) for (int draw = 0; draw < MAX_SAMPLER_DRAWS; draw++) {
+            final int index = childSampler.sample(ThreadLocalRandom.current());
+            if (available[index]) return index;
+        }
 
         // Calculate cumulated weights and total weight
-        final double[] cumulatedWeights = new double[children.size()];
+        final double[] cumulatedWeights = new double[available.length];
         double totalWeight = 0;
-        for (int i = 0; i < children.size(); i++) {
-            totalWeight += children.get(i).getChance();
+        for (int i = 0; i < available.length; i++) {
+            if (available[i]) totalWeight += children.get(i).getChance();
             cumulatedWeights[i] = totalWeight;
         }
 
-        final double random = RANDOM.nextDouble() * totalWeight;
-        for (int i = 0; i < children.size(); i++)
-            if (random <= cumulatedWeights[i]) return i;
+        final double random = ThreadLocalRandom.current().nextDouble() * totalWeight;
+        for (int i = 0; i < available.length; i++)
+            if (available[i] && random <= cumulatedWeights[i]) return i;
 
         throw new IllegalArgumentException("Could not roll new modifier from group '" + getId() + "'");
     }
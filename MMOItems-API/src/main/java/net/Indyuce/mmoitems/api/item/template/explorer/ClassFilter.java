@@ -21,6 +21,10 @@ public class ClassFilter implements Predicate<MMOItemTemplate> {
 		this.name = name;
 	}
 
+	public String getName() {
+		return name;
+	}
+
 	@Override
 	public boolean test(MMOItemTemplate template) {
 		if (!template.getBaseItemData().containsKey(ItemStats.REQUIRED_CLASS))
@@ -14,6 +14,10 @@ public class IDFilter implements Predicate<MMOItemTemplate> {
 		this.id = id;
 	}
 
+	public String getId() {
+		return id;
+	}
+
 	@Override
 	public boolean test(MMOItemTemplate template) {
 		return template.getId().equalsIgnoreCase(id);
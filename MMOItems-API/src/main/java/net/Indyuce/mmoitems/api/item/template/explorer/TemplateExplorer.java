@@ -1,6 +1,7 @@
 package net.Indyuce.mmoitems.api.item.template.explorer;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.function.Predicate;
@@ -12,39 +13,62 @@ import net.Indyuce.mmoitems.api.player.RPGPlayer;
 
 /**
  * Used to explore currently registered templates and randomly pick a template
- * given specific restrictions like type/class restrictions. Warning, this
- * caches in a collection all currently registered templates and applies filters
- * so this can be performance heavy
+ * given specific restrictions like type/class restrictions. Type, tier, class
+ * and ID filters are resolved using the {@link TemplateIndex}, other filters
+ * are only applied onto the templates matching these.
  * 
  * @author cympe
  */
 public class TemplateExplorer {
 	private static final Random RANDOM = new Random();
 
+	private final TemplateIndex.Query query = new TemplateIndex.Query();
+	private final List<Predicate<MMOItemTemplate>> filters = new ArrayList<>();
+
 	/*
-	 * Not defined at the beginning to save extra performance,
-	 * if there are 100+ templates this be pretty violent
+	 * Not computed until templates are actually needed,
+	 * and computed again when another filter is applied
 	 */
-	private final Collection<MMOItemTemplate> all = MMOItems.plugin.getTemplates().collectTemplates();
+	private List<MMOItemTemplate> all;
 
 	public int count() {
-		return all.size();
+		return getTemplates().size();
 	}
 
 	public TemplateExplorer applyFilter(Predicate<MMOItemTemplate> filter) {
-		all.removeIf(not(filter));
+		if (!isIndexed(filter)) filters.add(filter);
+		all = null;
 		return this;
 	}
 
+	/**
+	 * @return If the filter could be added to the index query. If a filter
+	 *         of the same kind is already in the query, the filter needs
+	 *         to be tested against every template
+	 */
+	private boolean isIndexed(Predicate<MMOItemTemplate> filter) {
+		if (filter.getClass() == TypeFilter.class) return query.setType(((TypeFilter) filter).getType());
+		if (filter.getClass() == TierFilter.class) return query.setTier(((TierFilter) filter).getId());
+		if (filter.getClass() == ClassFilter.class) return query.setClassName(((ClassFilter) filter).getName());
+		if (filter.getClass() == IDFilter.class) return query.setId(((IDFilter) filter).getId());
+		return false;
+	}
+
+	private List<MMOItemTemplate> getTemplates() {
+		if (all != null) return all;
+
+		final List<MMOItemTemplate> indexed = MMOItems.plugin.getTemplates().getIndex().query(query);
+		if (filters.isEmpty()) return all = indexed;
+
+		all = new ArrayList<>();
+		for (MMOItemTemplate template : indexed)
+			if (filters.stream().allMatch(filter -> filter.test(template))) all.add(template);
+		return all;
+	}
+
 	public Optional<MMOItemTemplate> rollLoot() {
-		switch (count()) {
-		case 0:
-			return Optional.empty();
-		case 1:
-			return all.stream().findFirst();
-		default:
-			return all.stream().skip(RANDOM.nextInt(count())).findFirst();
-		}
+		final List<MMOItemTemplate> templates = getTemplates();
+		return templates.isEmpty() ? Optional.empty() : Optional.of(templates.get(RANDOM.nextInt(templates.size())));
 	}
 
 	/**
@@ -58,8 +82,4 @@ public class TemplateExplorer {
 	public Optional<MMOItem> rollItem(RPGPlayer player) {
 		return rollLoot().map(template -> template.newBuilder(player).build());
 	}
-
-	private <T> Predicate<T> not(Predicate<T> predicate) {
-		return t -> !predicate.test(t);
-	}
 }
@@ -0,0 +1,242 @@
+package net.Indyuce.mmoitems.api.item.template.explorer;
+
+import net.Indyuce.mmoitems.ItemStats;
+import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
+import net.Indyuce.mmoitems.stat.data.StringListData;
+import net.Indyuce.mmoitems.stat.data.random.RandomStatData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Indexes registered templates by type, tier, required class and ID
+ * so that random loot does not require going through all templates.
+ * <p>
+ * Template base data is only available after templates are post-loaded,
+ * which happens after they are registered. Registered and unregistered
+ * templates are therefore only indexed when the next query is made.
+ * Query results are cached until some template is registered or
+ * unregistered again.
+ */
+public class TemplateIndex {
+	private final Map<MMOItemTemplate, Keys> indexed = new HashMap<>();
+	private final Map<Type, Set<MMOItemTemplate>> byType = new HashMap<>();
+	private final Map<String, Set<MMOItemTemplate>> byTier = new HashMap<>(), byClass = new HashMap<>(), byId = new HashMap<>();
+	private final Set<MMOItemTemplate> classless = new HashSet<>();
+
+	private final Set<MMOItemTemplate> added = new LinkedHashSet<>(), removed = new HashSet<>();
+	private final Map<Query, List<MMOItemTemplate>> results = new HashMap<>();
+
+	/**
+	 * Amount of query results kept in cache
+	 */
+	private static final int MAX_CACHED_RESULTS = 256;
+
+	public void register(@NotNull MMOItemTemplate template) {
+		removed.remove(template);
+		added.add(template);
+	}
+
+	public void unregister(@NotNull MMOItemTemplate template) {
+		added.remove(template);
+		removed.add(template);
+	}
+
+	public void clear() {
+		indexed.clear();
+		byType.clear();
+		byTier.clear();
+		byClass.clear();
+		byId.clear();
+		classless.clear();
+		added.clear();
+		removed.clear();
+		results.clear();
+	}
+
+	/**
+	 * @param query Template restrictions
+	 * @return Unmodifiable list of all templates matching the query
+	 */
+	@NotNull
+	public List<MMOItemTemplate> query(@NotNull Query query) {
+		flush();
+
+		final List<MMOItemTemplate> cached = results.get(query);
+		if (cached != null) return cached;
+
+		// Go through the smallest candidate set
+		Collection<MMOItemTemplate> candidates = indexed.keySet();
+		if (query.type != null) candidates = smallest(candidates, byType.getOrDefault(query.type, Set.of()));
+		if (query.tier != null) candidates = smallest(candidates, byTier.getOrDefault(query.tier, Set.of()));
+		if (query.id != null) candidates = smallest(candidates, byId.getOrDefault(query.id, Set.of()));
+		if (query.className != null) {
+			final Set<MMOItemTemplate> ofClass = byClass.getOrDefault(query.className, Set.of());
+			if (ofClass.size() + classless.size() < candidates.size()) {
+				final List<MMOItemTemplate> union = new ArrayList<>(ofClass);
+				union.addAll(classless);
+				candidates = union;
+			}
+		}
+
+		final List<MMOItemTemplate> result = new ArrayList<>();
+		for (MMOItemTemplate template : candidates)
+			if (query.test(indexed.get(template))) result.add(template);
+
+		if (results.size() >= MAX_CACHED_RESULTS) results.clear();
+		final List<MMOItemTemplate> unmodifiable = Collections.unmodifiableList(result);
+		results.put(query.copy(), unmodifiable);
+		return unmodifiable;
+	}
+
+	@NotNull
+	private static Collection<MMOItemTemplate> smallest(@NotNull Collection<MMOItemTemplate> current, @NotNull Collection<MMOItemTemplate> other) {
+		return other.size() < current.size() ? other : current;
+	}
+
+	private void flush() {
+		if (added.isEmpty() && removed.isEmpty()) return;
+
+		removed.forEach(this::deindex);
+
+		for (MMOItemTemplate template : added) {
+			deindex(template);
+			final Keys keys = new Keys(template);
+			indexed.put(template, keys);
+
+			byType.computeIfAbsent(keys.type, unused -> new HashSet<>()).add(template);
+			byId.computeIfAbsent(keys.id, unused -> new HashSet<>()).add(template);
+			if (keys.tier != null) byTier.computeIfAbsent(keys.tier, unused -> new HashSet<>()).add(template);
+			if (keys.classes == null) classless.add(template);
+			else for (String name : keys.classes)
+				byClass.computeIfAbsent(name, unused -> new HashSet<>()).add(template);
+		}
+
+		added.clear();
+		removed.clear();
+		results.clear();
+	}
+
+	private void deindex(@NotNull MMOItemTemplate template) {
+		final Keys keys = indexed.remove(template);
+		if (keys == null) return;
+
+		removeFrom(byType, keys.type, template);
+		removeFrom(byId, keys.id, template);
+		if (keys.tier != null) removeFrom(byTier, keys.tier, template);
+		if (keys.classes == null) classless.remove(template);
+		else for (String name : keys.classes)
+			removeFrom(byClass, name, template);
+	}
+
+	private static <K> void removeFrom(@NotNull Map<K, Set<MMOItemTemplate>> index, @NotNull K key, @NotNull MMOItemTemplate template) {
+		final Set<MMOItemTemplate> set = index.get(key);
+		if (set != null && set.remove(template) && set.isEmpty()) index.remove(key);
+	}
+
+	@NotNull
+	private static String format(@NotNull String key) {
+		return key.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Index keys of one template, computed when it is indexed
+	 */
+	private static class Keys {
+		private final Type type;
+		private final String id;
+		@Nullable
+		private final String tier;
+		@Nullable
+		private final Set<String> classes;
+
+		Keys(@NotNull MMOItemTemplate template) {
+			type = template.getType();
+			id = format(template.getId());
+
+			final @Nullable RandomStatData tierData = template.getBaseItemData().get(ItemStats.TIER);
+			tier = tierData == null ? null : format(tierData.toString());
+
+			final @Nullable RandomStatData classData = template.getBaseItemData().get(ItemStats.REQUIRED_CLASS);
+			if (classData == null) classes = null;
+			else {
+				classes = new HashSet<>();
+				for (String name : ((StringListData) classData).getList())
+					classes.add(format(name));
+			}
+		}
+	}
+
+	/**
+	 * Restrictions on templates. Null fields are not restricted
+	 */
+	public static class Query {
+		@Nullable
+		private Type type;
+		@Nullable
+		private String tier, className, id;
+
+		/**
+		 * @return If that restriction was not defined yet
+		 */
+		public boolean setType(@NotNull Type type) {
+			if (this.type != null) return false;
+			this.type = type;
+			return true;
+		}
+
+		public boolean setTier(@NotNull String tier) {
+			if (this.tier != null) return false;
+			this.tier = format(tier);
+			return true;
+		}
+
+		/**
+		 * Templates with no class restriction match every class
+		 */
+		public boolean setClassName(@NotNull String className) {
+			if (this.className != null) return false;
+			this.className = format(className);
+			return true;
+		}
+
+		public boolean setId(@NotNull String id) {
+			if (this.id != null) return false;
+			this.id = format(id);
+			return true;
+		}
+
+		@NotNull
+		private Query copy() {
+			final Query copy = new Query();
+			copy.type = type;
+			copy.tier = tier;
+			copy.className = className;
+			copy.id = id;
+			return copy;
+		}
+
+		private boolean test(@NotNull Keys keys) {
+			return (type == null || type.equals(keys.type))
+					&& (tier == null || tier.equals(keys.tier))
+					&& (id == null || id.equals(keys.id))
+					&& (className == null || keys.classes == null || keys.classes.contains(className));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			final Query query = (Query) o;
+			return Objects.equals(type, query.type) && Objects.equals(tier, query.tier)
+					&& Objects.equals(className, query.className) && Objects.equals(id, query.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, tier, className, id);
+		}
+	}
+}
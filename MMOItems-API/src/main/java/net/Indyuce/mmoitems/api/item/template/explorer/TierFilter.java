@@ -22,6 +22,10 @@ public class TierFilter implements Predicate<MMOItemTemplate> {
         this.id = id;
     }
 
+    public String getId() {
+        return id;
+    }
+
     @Override
     public boolean test(MMOItemTemplate template) {
         final @Nullable RandomStatData found = template.getBaseItemData().get(ItemStats.TIER);
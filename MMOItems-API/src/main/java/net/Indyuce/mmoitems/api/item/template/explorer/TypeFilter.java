@@ -15,6 +15,10 @@ public class TypeFilter implements Predicate<MMOItemTemplate> {
 		this.type = type;
 	}
 
+	public Type getType() {
+		return type;
+	}
+
 	@Override
 	public boolean test(MMOItemTemplate template) {
 		return template.getType().equals(type);
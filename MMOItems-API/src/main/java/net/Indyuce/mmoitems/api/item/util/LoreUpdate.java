@@ -1,15 +1,23 @@
 package net.Indyuce.mmoitems.api.item.util;
 
 
+import io.lumine.mythic.lib.MythicLib;
 import io.lumine.mythic.lib.api.item.NBTItem;
+import io.lumine.mythic.lib.gson.JsonArray;
+import io.lumine.mythic.lib.gson.JsonElement;
+import io.lumine.mythic.lib.gson.JsonObject;
+import io.lumine.mythic.lib.gson.JsonParser;
 import io.lumine.mythic.lib.util.AdventureUtils;
 import net.Indyuce.mmoitems.ItemStats;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Slightly different from the dynamic lore. Instead of saving in the item NBT
@@ -22,18 +30,31 @@ import java.util.List;
  * <p>
  * Currently this is being used to display custom durability, consumable
  * uses that are left, as well as tool experience and levels
+ * <p>
+ * When the item is built, the line index as well as the text before and after
+ * the dynamic value are saved in the item NBT, see {@link #REGIONS_TAG}. If the
+ * line is still there, it is replaced directly without looking through the lore.
  *
  * @author indyuce using arias initial code
  */
 public class LoreUpdate {
     private final ItemStack item;
     private final ItemMeta meta;
+    private final NBTItem nbtItem;
     private final String pattern, replace;
     private final List<String> lore;
 
     @ApiStatus.Experimental
     private final boolean hasTooltip;
 
+    @Nullable
+    private String regionId, oldValue, newValue;
+
+    /**
+     * NBT tag saving the position of dynamic lore regions
+     */
+    public static final String REGIONS_TAG = "MMOITEMS_LORE_REGIONS";
+
     /**
      * Used to handle live lore updates.
      *
@@ -44,12 +65,29 @@ public class LoreUpdate {
     public LoreUpdate(ItemStack item, @Nullable ItemMeta meta, @Nullable NBTItem nbtItem, String pattern, String replace) {
         this.item = item;
         this.meta = meta == null ? item.getItemMeta() : meta;
+        this.nbtItem = nbtItem;
         this.replace = replace;
         this.pattern = pattern.toLowerCase();
-        this.lore = item.getItemMeta().getLore();
+        this.lore = this.meta.getLore();
         this.hasTooltip = nbtItem.hasTag(ItemStats.TOOLTIP.getNBTPath());
     }
 
+    /**
+     * Updates the dynamic lore region saved when the item was built,
+     * falling back on looking for the old line if it cannot be found.
+     *
+     * @param regionId ID of the dynamic lore region
+     * @param oldValue Value currently displayed
+     * @param newValue New value
+     */
+    @NotNull
+    public LoreUpdate region(@NotNull String regionId, @NotNull Object oldValue, @NotNull Object newValue) {
+        this.regionId = regionId;
+        this.oldValue = String.valueOf(oldValue);
+        this.newValue = String.valueOf(newValue);
+        return this;
+    }
+
     @Nullable
     private String getResult(String line, String pattern) {
 
@@ -74,16 +112,19 @@ public class LoreUpdate {
         // If item has no lore
         if (lore == null || lore.isEmpty()) return item;
 
-        for (int i = 0; i < lore.size(); i++) {
-            String lineResult = getResult(lore.get(i), pattern);
-            if (lineResult != null) {
-                lore.set(i, lineResult);
+        // Nothing to update
+        if (regionId != null ? oldValue.equals(newValue) : pattern.equalsIgnoreCase(replace)) return item;
 
-                AdventureUtils.setLore(meta, lore);
-                item.setItemMeta(meta);
+        // Saved region
+        if (regionId != null && nbtItem.hasTag(REGIONS_TAG)) {
+            final Region region = Region.get(nbtItem.getString(REGIONS_TAG), regionId);
+            if (region != null && region.index < lore.size() && lore.get(region.index).equalsIgnoreCase(region.getLine(oldValue)))
+                return setLine(region.index, region.getLine(newValue));
+        }
 
-                return item;
-            }
+        for (int i = 0; i < lore.size(); i++) {
+            String lineResult = getResult(lore.get(i), pattern);
+            if (lineResult != null) return setLine(i, lineResult);
         }
 
         /*
@@ -93,4 +134,134 @@ public class LoreUpdate {
         return item;
         /*throw new NoSuchElementException("Could not find old lore line; item lore not updated");*/
     }
+
+    @NotNull
+    private ItemStack setLine(int index, @NotNull String line) {
+        lore.set(index, line);
+
+        AdventureUtils.setLore(meta, lore);
+        item.setItemMeta(meta);
+
+        return item;
+    }
+
+    /**
+     * Part of a lore line which displays a value that can be
+     * updated without rebuilding the item, like custom durability.
+     */
+    public static class Region {
+        private final int index;
+        private final String prefix, suffix;
+
+        public Region(int index, @NotNull String prefix, @NotNull String suffix) {
+            this.index = index;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        @NotNull
+        public String getLine(@NotNull String value) {
+            return prefix + value + suffix;
+        }
+
+        /**
+         * Looks for a dynamic region in a built lore, the same
+         * way lore updates look for the line to replace.
+         *
+         * @param lore        Item lore, as read from the item meta
+         * @param format      Lore line with the value placeholder
+         * @param placeholder Value placeholder, for instance {current}
+         * @param value       Value currently displayed
+         * @return Region found, or null if the line is not in the lore
+         */
+        @Nullable
+        public static Region locate(@NotNull List<String> lore, @NotNull String format, @NotNull String placeholder, @NotNull String value) {
+            final String coloredFormat = MythicLib.inst().parseColors(format).toLowerCase();
+            final int valueOffset = coloredFormat.indexOf(placeholder);
+            if (valueOffset < 0) return null;
+
+            final String pattern = coloredFormat.replace(placeholder, value);
+            for (int i = 0; i < lore.size(); i++) {
+                final String line = lore.get(i);
+                final int index = line.toLowerCase().indexOf(pattern);
+                if (index < 0) continue;
+
+                final int start = index + valueOffset;
+                if (start + value.length() > line.length()) continue;
+                return new Region(i, line.substring(0, start), line.substring(start + value.length()));
+            }
+
+            return null;
+        }
+
+        @Nullable
+        public static Region get(@NotNull String tag, @NotNull String id) {
+            try {
+                final JsonElement element = JsonParser.parseString(tag).getAsJsonObject().get(id);
+                return element == null ? null : fromJson(element);
+            } catch (RuntimeException exception) {
+                return null;
+            }
+        }
+
+        /**
+         * Finds dynamic regions again after lines were added
+         * or removed from the lore. Regions which cannot be
+         * found anymore are dropped.
+         *
+         * @param tag  Value of the NBT tag saving dynamic regions
+         * @param lore New item lore
+         * @return New value of the NBT tag saving dynamic regions
+         */
+        @NotNull
+        public static String relocate(@NotNull String tag, @NotNull List<String> lore) {
+            final Map<String, Region> relocated = new LinkedHashMap<>();
+
+            try {
+                for (Map.Entry<String, JsonElement> entry : JsonParser.parseString(tag).getAsJsonObject().entrySet()) {
+                    final Region region = fromJson(entry.getValue());
+                    if (region.index < lore.size() && region.matches(lore.get(region.index)))
+                        relocated.put(entry.getKey(), region);
+                    else for (int i = 0; i < lore.size(); i++)
+                        if (region.matches(lore.get(i))) {
+                            relocated.put(entry.getKey(), new Region(i, region.prefix, region.suffix));
+                            break;
+                        }
+                }
+            } catch (RuntimeException exception) {
+                // Regions are dropped
+            }
+
+            return toNBTString(relocated);
+        }
+
+        @NotNull
+        private static Region fromJson(@NotNull JsonElement element) {
+            final JsonArray array = element.getAsJsonArray();
+            return new Region(array.get(0).getAsInt(), array.get(1).getAsString(), array.get(2).getAsString());
+        }
+
+        private boolean matches(@NotNull String line) {
+            return line.length() > prefix.length() + suffix.length()
+                    && line.regionMatches(true, 0, prefix, 0, prefix.length())
+                    && line.regionMatches(true, line.length() - suffix.length(), suffix, 0, suffix.length());
+        }
+
+        /**
+         * @param regions Dynamic regions, by ID
+         * @return Value of the NBT tag saving these regions
+         */
+        @NotNull
+        public static String toNBTString(@NotNull Map<String, Region> regions) {
+            final JsonObject object = new JsonObject();
+            regions.forEach((id, region) -> {
+                final JsonArray array = new JsonArray();
+                array.add(region.index);
+                array.add(region.prefix);
+                array.add(region.suffix);
+                object.add(id, array);
+            });
+            return object.toString();
+        }
+    }
 }
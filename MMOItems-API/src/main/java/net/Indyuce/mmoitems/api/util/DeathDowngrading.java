@@ -3,6 +3,7 @@ package net.Indyuce.mmoitems.api.util;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.api.util.ui.SilentNumbers;
 import net.Indyuce.mmoitems.ItemStats;
+import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.interaction.util.DurabilityItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.LiveMMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
@@ -12,20 +13,80 @@ import net.Indyuce.mmoitems.api.util.message.Message;
 import net.Indyuce.mmoitems.inventory.EquippedItem;
 import net.Indyuce.mmoitems.stat.data.UpgradeData;
 import net.Indyuce.mmoitems.util.MMOUtils;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
+import java.util.logging.Level;
 
 public class DeathDowngrading {
     private static final Random RANDOM = new Random();
 
+    private static final int DEATH_DOWNGRADE_DELAY = 3;
+
+    private static final Deque<PendingDeath> PENDING_DEATHS = new ArrayDeque<>();
+    private static final Deque<PendingDowngrade> PENDING_DOWNGRADES = new ArrayDeque<>();
+    private static BukkitTask task;
+
+    /**
+     * Some plugins like to interfere with dropping items when the
+     * player dies, or whatever of that sort.
+     * <p>
+     * MMOItems would hate to dupe items because of this, as such, we wait
+     * 3 ticks for those plugins to reasonably complete their operations and
+     * then downgrade the items the player still has equipped.
+     * <p>
+     * If a plugin removes items in this time, they will be completely excluded
+     * and no dupes will be caused, and if a plugin adds items, they will be
+     * included and downgraded. I think that's reasonable behaviour.
+     * <p>
+     * All deaths are handled by one single task, which rebuilds a limited
+     * amount of items every tick. Items which are no longer equipped
+     * by the time they are rebuilt are skipped.
+     *
+     * @author Gunging
+     */
+    public static void queueDeathDowngrade(@NotNull PlayerData data, @NotNull Player player) {
+        PENDING_DEATHS.addLast(new PendingDeath(data, player));
+        if (task == null) task = Bukkit.getScheduler().runTaskTimer(MMOItems.plugin, DeathDowngrading::tick, 1, 1);
+    }
+
+    private static void tick() {
+
+        // Roll deaths which are due
+        for (PendingDeath death : PENDING_DEATHS) death.delay--;
+        while (!PENDING_DEATHS.isEmpty() && PENDING_DEATHS.peekFirst().delay <= 0) {
+            final PendingDeath death = PENDING_DEATHS.pollFirst();
+            if (death.data.isOnline()) rollDeathDowngrades(death.data, death.player);
+        }
+
+        // Rebuild downgraded items
+        for (int budget = MMOItems.plugin.getLanguage().deathDowngradesPerTick; budget != 0 && !PENDING_DOWNGRADES.isEmpty(); budget--) {
+            final PendingDowngrade downgrade = PENDING_DOWNGRADES.pollFirst();
+
+            // Item is not there anymore
+            if (!downgrade.data.isOnline() || !downgrade.data.getInventory().getEquipped().contains(downgrade.equipped))
+                continue;
+
+            try {
+                downgrade.equipped.setItem(downgrade(new LiveMMOItem(downgrade.equipped.getItem()), downgrade.player));
+            } catch (RuntimeException exception) {
+                MMOItems.plugin.getLogger().log(Level.WARNING, "Could not downgrade item of " + downgrade.player.getName(), exception);
+            }
+        }
+
+        if (PENDING_DEATHS.isEmpty() && PENDING_DOWNGRADES.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
     /**
      * This will go through the following steps:
      *
@@ -35,23 +96,41 @@ public class DeathDowngrading {
      *  #2 Roll for death downgrade chances, downgrading the items
      */
     public static void playerDeathDowngrade(@NotNull PlayerData data, @NotNull Player player) {
+        for (EquippedItem equipped : rollCandidates(data))
+            equipped.setItem(downgrade(new LiveMMOItem(equipped.getItem()), player));
+    }
+
+    private static void rollDeathDowngrades(@NotNull PlayerData data, @NotNull Player player) {
+        for (EquippedItem equipped : rollCandidates(data))
+            PENDING_DOWNGRADES.addLast(new PendingDowngrade(data, player, equipped));
+    }
+
+    /**
+     * @return Randomly picked equipped items which should be downgraded
+     */
+    @NotNull
+    private static List<EquippedItem> rollCandidates(@NotNull PlayerData data) {
+        final List<EquippedItem> picked = new ArrayList<>();
 
         // Get total downgrade chance, anything less than zero is invalid
         double deathChance = data.getStat(ItemStats.DOWNGRADE_ON_DEATH_CHANCE) / 100;
         //DET//MMOItems.log("\u00a78DETH \u00a7cDG\u00a77 Current chance:\u00a7b " + deathChance);
-        if (deathChance <= 0) return;
+        if (deathChance <= 0) return picked;
 
         // Make sure the equipped items list is up to date and retrieve it
         data.resolveInventory();
         final List<EquippedItem> candidates = new ArrayList<>();
         for (EquippedItem equipped : data.getInventory().getEquipped())
-            if (canDeathDowngrade(equipped.reader())) candidates.add(equipped);
+
+            // Only decode items which have the stat
+            if (equipped.getItem().getBoolean(ItemStats.DOWNGRADE_ON_DEATH.getNBTPath()) && canDeathDowngrade(equipped.reader()))
+                candidates.add(equipped);
 
         // Nothing to perform operations? Snooze
-        if (candidates.isEmpty()) return;
+        if (candidates.isEmpty()) return picked;
 
         // If there is chance, and there is size, and there is chance success
-        while (deathChance > 0 && RANDOM.nextDouble() < deathChance) {
+        while (deathChance > 0 && !candidates.isEmpty() && RANDOM.nextDouble() < deathChance) {
             deathChance -= 1; // Support multiple death downgrades if chance is above 100%
 
             // Downgrade random item
@@ -59,9 +138,11 @@ public class DeathDowngrading {
             EquippedItem equip = candidates.get(randomIndex);
 
             // Downgrade and remove from list
-            equip.setItem(downgrade(new LiveMMOItem(equip.getItem()), player));
+            picked.add(equip);
             candidates.remove(randomIndex);
         }
+
+        return picked;
     }
 
     /**
@@ -183,15 +264,6 @@ public class DeathDowngrading {
         // Build NBT
         ItemStack bakedItem = mmo.newBuilder().build();
 
-        // Set durability to zero (full repair)
-        DurabilityItem dur = DurabilityItem.from(null, mmo.newBuilder().buildNBT());
-
-        // Perform durability operations
-        if (dur.getDurability() != dur.getMaxDurability()) {
-            dur.addDurability(dur.getMaxDurability());
-            dur.updateInInventory();
-        }
-
         // Send downgrading message
         Message.DEATH_DOWNGRADING.format(ChatColor.RED, "#item#", MMOUtils.getDisplayName(mmo.getNBT().getItem())).send(player);
 
@@ -263,4 +335,27 @@ public class DeathDowngrading {
 
         return upgradeData.getLevel() > upgradeData.getMin();
     }
+
+    private static class PendingDeath {
+        private final PlayerData data;
+        private final Player player;
+        private int delay = DEATH_DOWNGRADE_DELAY;
+
+        PendingDeath(PlayerData data, Player player) {
+            this.data = data;
+            this.player = player;
+        }
+    }
+
+    private static class PendingDowngrade {
+        private final PlayerData data;
+        private final Player player;
+        private final EquippedItem equipped;
+
+        PendingDowngrade(PlayerData data, Player player, EquippedItem equipped) {
+            this.data = data;
+            this.player = player;
+            this.equipped = equipped;
+        }
+    }
 }
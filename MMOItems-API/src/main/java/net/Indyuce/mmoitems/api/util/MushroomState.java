@@ -24,6 +24,14 @@ public class MushroomState {
 		this.north = north;
 	}
 
+	/**
+	 * @return 6-bit mask of the faces of that state, in the same order
+	 *         as the unique ID: up, down, west, east, south then north
+	 */
+	public int getFaceMask() {
+		return (up ? 32 : 0) | (down ? 16 : 0) | (west ? 8 : 0) | (east ? 4 : 0) | (south ? 2 : 0) | (north ? 1 : 0);
+	}
+
 	public int getUniqueId() {
 		String first = material == Material.BROWN_MUSHROOM_BLOCK ? "0" : material == Material.RED_MUSHROOM_BLOCK ? "1" : "2";
 		return Integer.parseInt(
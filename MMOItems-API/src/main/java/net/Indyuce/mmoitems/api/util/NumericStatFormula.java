@@ -10,7 +10,7 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.DecimalFormat;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 /**
@@ -22,7 +22,6 @@ public class NumericStatFormula implements RandomStatData<DoubleData>, Updatable
     private final double base, scale, spread, maxSpread, min, max;
     private final boolean uniform, hasMin, hasMax;
 
-    private static final Random RANDOM = new Random();
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.####");
 
     public static final NumericStatFormula ZERO = new NumericStatFormula(0, 0, 0, 0);
@@ -244,7 +243,7 @@ public class NumericStatFormula implements RandomStatData<DoubleData>, Updatable
 
     public double calculate(double scaleFactor, @NotNull FormulaInputType type) {
         return calculate(scaleFactor,
-                type == FormulaInputType.RANDOM ? (uniform ? RANDOM.nextDouble() : RANDOM.nextGaussian()) :
+                type == FormulaInputType.RANDOM ? (uniform ? ThreadLocalRandom.current().nextDouble() : ThreadLocalRandom.current().nextGaussian()) :
                         type == FormulaInputType.UPPER_BOUND ? (uniform ? 1 : 2.5) :
                                 type == FormulaInputType.LOWER_BOUND ? (uniform ? 0 : -2.5) : Double.NaN);
     }
@@ -0,0 +1,114 @@
+package net.Indyuce.mmoitems.api.util;
+
+import io.lumine.mythic.lib.util.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Picks random elements following their respective weights in
+ * constant time, using Vose's alias method. Building the sampler is
+ * linear in the amount of elements and so is its memory footprint,
+ * no matter how large weights are.
+ * <p>
+ * Samplers are immutable and should be built once when the plugin
+ * loads or reloads, then reused for every roll.
+ *
+ * @param <T> Type of elements being picked. Null elements are allowed
+ */
+public class WeightedSampler<T> {
+    private final List<T> elements;
+    private final double[] probability;
+    private final int[] alias;
+
+    private WeightedSampler(@NotNull List<T> elements, @NotNull List<Double> weights) {
+        Validate.isTrue(!elements.isEmpty(), "Cannot sample from an empty set");
+
+        final int n = elements.size();
+        this.elements = Collections.unmodifiableList(elements);
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double total = 0;
+        for (double weight : weights) total += weight;
+
+        // Scale weights so that their average is 1
+        final double[] scaled = new double[n];
+        final Deque<Integer> small = new ArrayDeque<>(), large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights.get(i) * n / total;
+            (scaled[i] < 1 ? small : large).push(i);
+        }
+
+        // Pair every under-full column with an over-full one
+        while (!small.isEmpty() && !large.isEmpty()) {
+            final int less = small.pop(), more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            (scaled[more] < 1 ? small : large).push(more);
+        }
+
+        // Remaining columns are full, up to rounding errors
+        while (!large.isEmpty()) probability[large.pop()] = 1;
+        while (!small.isEmpty()) probability[small.pop()] = 1;
+    }
+
+    /**
+     * @param random Random number generator
+     * @return Randomly picked element
+     */
+    @Nullable
+    public T sample(@NotNull Random random) {
+        final int column = random.nextInt(probability.length);
+        return elements.get(random.nextDouble() < probability[column] ? column : alias[column]);
+    }
+
+    /**
+     * @return Elements that can be picked, with a strictly positive weight
+     */
+    @NotNull
+    public List<T> getElements() {
+        return elements;
+    }
+
+    @NotNull
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private final List<T> elements = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+
+        /**
+         * @param element Element to add
+         * @param weight  Weight of that element. Elements with a null weight
+         *                are ignored since they can never be picked
+         */
+        @NotNull
+        public Builder<T> add(@Nullable T element, double weight) {
+            Validate.isTrue(weight >= 0 && Double.isFinite(weight), "Weight must be positive");
+
+            if (weight > 0) {
+                elements.add(element);
+                weights.add(weight);
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return elements.isEmpty();
+        }
+
+        /**
+         * @return Built sampler
+         * @throws IllegalArgumentException If no element has a positive weight
+         */
+        @NotNull
+        public WeightedSampler<T> build() {
+            return new WeightedSampler<>(new ArrayList<>(elements), new ArrayList<>(weights));
+        }
+    }
+}
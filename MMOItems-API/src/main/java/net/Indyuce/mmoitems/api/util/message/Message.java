@@ -107,6 +107,7 @@ public enum Message {
     CONDITIONS_NOT_MET("You cannot craft this item."),
     CRAFTING_CANCELED("You cancelled a crafting recipe."),
     CRAFTING_QUEUE_FULL("The crafting queue is currently full."),
+    CRAFTING_QUEUE_READY("Your &6#item#&e is ready to be claimed at &6#station#&e."),
     UNABLE_TO_REPAIR("This item can't be repaired by this consumable!"),
     ;
 
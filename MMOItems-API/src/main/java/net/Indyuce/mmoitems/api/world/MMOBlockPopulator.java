@@ -3,10 +3,8 @@ package net.Indyuce.mmoitems.api.world;
 import net.Indyuce.mmoitems.api.block.CustomBlock;
 import net.Indyuce.mmoitems.api.block.WorldGenTemplate;
 import net.Indyuce.mmoitems.manager.WorldGenManager;
-import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.generator.BlockPopulator;
 import org.bukkit.generator.LimitedRegion;
 import org.bukkit.generator.WorldInfo;
@@ -23,53 +21,52 @@ import java.util.Random;
  */
 public class MMOBlockPopulator extends BlockPopulator {
 
-    private static final BlockFace[] faces = {BlockFace.NORTH, BlockFace.SOUTH, BlockFace.WEST, BlockFace.EAST, BlockFace.DOWN, BlockFace.UP};
+    /**
+     * Offsets of north, south, west, east, down and up faces
+     */
+    private static final int[] FACE_X = {0, 0, -1, 1, 0, 0}, FACE_Y = {0, 0, 0, 0, -1, 1}, FACE_Z = {-1, 1, 0, 0, 0, 0};
 
     private final WorldGenManager manager;
-    private final World world;
 
     public MMOBlockPopulator(World world, WorldGenManager manager) {
         this.manager = manager;
-        this.world = world;
     }
 
+    /**
+     * Only works with the limited region and block coordinates. The live
+     * world must not be accessed from populators, which may run on any
+     * thread during chunk generation.
+     */
     @Override
     public void populate(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ, @NotNull LimitedRegion limitedRegion) {
-        final Map<CustomBlock, WorldGenTemplate> assigned = manager.assigned();
-        assigned.entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().canGenerateInWorld(worldInfo.getName()))
-                .filter(entry -> entry.getValue().getMinDepth() >= worldInfo.getMinHeight())
-                .filter(entry -> entry.getValue().getMaxDepth() <= worldInfo.getMaxHeight())
-                .forEach(entry -> {
-                    final CustomBlock block = entry.getKey();
-                    final WorldGenTemplate template = entry.getValue();
-                    if (random.nextDouble() > template.getChunkChance())
-                        return;
+        for (Map.Entry<CustomBlock, WorldGenTemplate> entry : manager.getGenerating(worldInfo)) {
+            final WorldGenTemplate template = entry.getValue();
+            if (random.nextDouble() > template.getChunkChance())
+                continue;
 
-                    for (int i = 0; i < template.getVeinCount(); i++) {
-                        int x = chunkX * 16 + random.nextInt(16);
-                        int y = random.nextInt(template.getMaxDepth() - template.getMinDepth() + 1) + template.getMinDepth();
-                        int z = chunkZ * 16 + random.nextInt(16);
-                        Location generatePoint = new Location(world, x, y, z);
+            final BlockData blockData = entry.getKey().getBlockData();
+            for (int i = 0; i < template.getVeinCount(); i++) {
+                int x = chunkX * 16 + random.nextInt(16);
+                int y = random.nextInt(template.getMaxDepth() - template.getMinDepth() + 1) + template.getMinDepth();
+                int z = chunkZ * 16 + random.nextInt(16);
 
-                        if (!template.canGenerate(generatePoint) || generatePoint.getWorld() == null)
-                            continue;
-                        Block modify = generatePoint.getWorld().getBlockAt(generatePoint);
+                if (!limitedRegion.isInRegion(x, y, z) || !template.canGenerate(worldInfo, limitedRegion, x, y, z))
+                    continue;
 
-                        // MMOItems.log("Generating " + block.getId() + " at x: " + generatePoint.getBlockX() + " y: " + generatePoint.getBlockY() + " z: " + generatePoint.getBlockZ());
-                        for (int j = 0; j < template.getVeinSize(); j++) {
-                            if (!limitedRegion.isInRegion(modify.getLocation()))
-                                continue;
-                            if (template.canReplace(limitedRegion.getType(modify.getLocation()))) {
-                                limitedRegion.setType(modify.getLocation(), block.getState().getType());
-                                limitedRegion.setBlockData(modify.getLocation(), block.getState().getBlockData());
-                            }
-                            BlockFace nextFace = faces[random.nextInt(faces.length)];
-                            modify = modify.getRelative(nextFace);
-                        }
-                    }
-                });
-    }
+                for (int j = 0; j < template.getVeinSize(); j++) {
+
+                    // Vein left the region, it cannot come back
+                    if (!limitedRegion.isInRegion(x, y, z))
+                        break;
+                    if (template.canReplace(limitedRegion.getType(x, y, z)))
+                        limitedRegion.setBlockData(x, y, z, blockData);
 
+                    final int face = random.nextInt(FACE_X.length);
+                    x += FACE_X[face];
+                    y += FACE_Y[face];
+                    z += FACE_Z[face];
+                }
+            }
+        }
+    }
 }
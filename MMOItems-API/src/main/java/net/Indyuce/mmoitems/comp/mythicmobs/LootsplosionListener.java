@@ -5,11 +5,13 @@ import io.lumine.mythic.lib.MythicLib;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.version.VParticle;
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.interaction.projectile.ProjectileTicker;
+import net.Indyuce.mmoitems.api.interaction.projectile.TickingProjectile;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import net.Indyuce.mmoitems.api.ItemTier;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Color;
+import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Item;
 import org.bukkit.event.EventHandler;
@@ -17,30 +19,83 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ItemSpawnEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
 
+/**
+ * One single listener handles every lootsplosion. Mob deaths register
+ * their drops as pending, and item entities spawned during the same
+ * tick next to the mob are matched against these drops.
+ */
 public class LootsplosionListener implements Listener {
     private static final Random RANDOM = new Random();
 
+    /**
+     * Maximum distance between the mob and its spawned drops
+     */
+    private static final double MAX_DROP_DISTANCE_SQUARED = 4;
+
     private final boolean colored;
+    private final double offset, height;
+    private final List<PendingLootsplosion> pending = new ArrayList<>();
+
+    private boolean clearScheduled;
 
     public LootsplosionListener() {
         colored = MMOItems.plugin.getConfig().getBoolean("lootsplosion.color");
+        offset = MMOItems.plugin.getConfig().getDouble("lootsplosion.offset");
+        height = MMOItems.plugin.getConfig().getDouble("lootsplosion.height");
     }
 
     @EventHandler(priority = EventPriority.HIGH)
     public void b(MythicMobDeathEvent event) {
-        if (event.getMob().getVariables().has("Lootsplosion"))
-            new LootsplosionHandler(event);
+        if (!event.getMob().getVariables().has("Lootsplosion") || event.getDrops().isEmpty()) return;
+
+        pending.add(new PendingLootsplosion(event));
+
+        // Drops spawn during the same tick as the death
+        if (!clearScheduled) {
+            clearScheduled = true;
+            Bukkit.getScheduler().runTask(MMOItems.plugin, () -> {
+                clearScheduled = false;
+                pending.clear();
+            });
+        }
     }
 
-    public class LootsplosionHandler implements Listener {
-        private final List<ItemStack> drops;
+    @EventHandler
+    public void a(ItemSpawnEvent event) {
+        if (pending.isEmpty()) return;
+
+        final Item item = event.getEntity();
+        final ItemStack stack = item.getItemStack();
+        final Location location = item.getLocation();
+
+        for (Iterator<PendingLootsplosion> iterator = pending.iterator(); iterator.hasNext(); ) {
+            final PendingLootsplosion lootsplosion = iterator.next();
+            if (!lootsplosion.isNear(location)) continue;
+
+            final PendingDrop drop = lootsplosion.removeDrop(stack);
+            if (drop == null) continue;
+            if (lootsplosion.drops.isEmpty()) iterator.remove();
+
+            item.teleport(location.add(0, lootsplosion.offset, 0));
+            item.setVelocity(randomVector());
+            if (drop.color != null) new LootColor(item, drop.color);
+            return;
+        }
+    }
+
+    private Vector randomVector() {
+        return new Vector(Math.cos(RANDOM.nextDouble() * Math.PI * 2) * offset, height, Math.sin(RANDOM.nextDouble() * Math.PI * 2) * offset);
+    }
+
+    private class PendingLootsplosion {
+        private final Location location;
+        private final List<PendingDrop> drops = new ArrayList<>();
 
         /*
          * Y coordinate offset so the velocity is not
@@ -48,68 +103,81 @@ public class LootsplosionListener implements Listener {
          */
         private final double offset;
 
-        public LootsplosionHandler(MythicMobDeathEvent event) {
+        PendingLootsplosion(MythicMobDeathEvent event) {
+            location = event.getEntity().getLocation();
             offset = event.getEntity().getHeight() / 2;
-            drops = new ArrayList<>(event.getDrops());
 
-            Bukkit.getPluginManager().registerEvents(this, MMOItems.plugin);
+            for (ItemStack drop : event.getDrops())
+                if (drop != null) drops.add(new PendingDrop(drop, colored ? getTierColor(drop) : null));
         }
 
-        private void close() {
-            ItemSpawnEvent.getHandlerList().unregister(this);
+        boolean isNear(@NotNull Location location) {
+            return location.getWorld().equals(this.location.getWorld()) && location.distanceSquared(this.location) < MAX_DROP_DISTANCE_SQUARED;
         }
 
-        @EventHandler
-        public void a(ItemSpawnEvent event) {
-            Item item = event.getEntity();
-            if (!drops.contains(item.getItemStack())) {
-                close();
-                return;
+        @Nullable
+        PendingDrop removeDrop(@NotNull ItemStack stack) {
+            for (Iterator<PendingDrop> iterator = drops.iterator(); iterator.hasNext(); ) {
+                final PendingDrop drop = iterator.next();
+                if (drop.item.getType() == stack.getType() && drop.item.equals(stack)) {
+                    iterator.remove();
+                    return drop;
+                }
             }
+            return null;
+        }
+    }
 
-            drops.remove(item.getItemStack());
-            item.teleport(item.getLocation().add(0, offset, 0));
-            item.setVelocity(randomVector());
+    private static class PendingDrop {
+        private final ItemStack item;
+        @Nullable
+        private final Color color;
 
-            if (colored)
-                Bukkit.getScheduler().runTask(MMOItems.plugin, () -> {
-                    NBTItem nbt = MythicLib.plugin.getVersion().getWrapper().getNBTItem(item.getItemStack());
-                    if (nbt.hasTag("MMOITEMS_TIER")) {
-                        ItemTier tier = MMOItems.plugin.getTiers().get(nbt.getString("MMOITEMS_TIER"));
-                        if (tier.hasColor())
-                            new LootColor(item, tier.getColor());
-                    }
-                });
+        PendingDrop(ItemStack item, @Nullable Color color) {
+            this.item = item;
+            this.color = color;
         }
     }
 
-    private Vector randomVector() {
-        double offset = MMOItems.plugin.getConfig().getDouble("lootsplosion.offset"),
-                height = MMOItems.plugin.getConfig().getDouble("lootsplosion.height");
-        return new Vector(Math.cos(RANDOM.nextDouble() * Math.PI * 2) * offset, height, Math.sin(RANDOM.nextDouble() * Math.PI * 2) * offset);
+    /**
+     * Tier colors are resolved once when the mob dies
+     */
+    @Nullable
+    private static Color getTierColor(@NotNull ItemStack drop) {
+        final NBTItem nbt = MythicLib.plugin.getVersion().getWrapper().getNBTItem(drop);
+        if (!nbt.hasTag("MMOITEMS_TIER")) return null;
+
+        final ItemTier tier = MMOItems.plugin.getTiers().get(nbt.getString("MMOITEMS_TIER"));
+        return tier != null && tier.hasColor() ? MMOUtils.toRGB(tier.getColor()) : null;
     }
 
-    public class LootColor extends BukkitRunnable {
+    /**
+     * Particle trail of a dropped item, ticked along
+     * with projectiles by the {@link ProjectileTicker}
+     */
+    public static class LootColor extends TickingProjectile {
         private final Item item;
-        private final Color color;
+        private final Particle.DustOptions dustOptions;
 
         private int j = 0;
 
-        public LootColor(Item item, ChatColor color) {
+        public LootColor(Item item, Color color) {
             this.item = item;
-            this.color = MMOUtils.toRGB(color);
+            this.dustOptions = new Particle.DustOptions(color, 1.3f);
 
-            runTaskTimer(MMOItems.plugin, 0, 1);
+            register();
         }
 
         @Override
-        public void run() {
+        public void tick() {
             if (j++ > 100 || item.isDead() || item.isOnGround()) {
                 cancel();
                 return;
             }
 
-            item.getWorld().spawnParticle(VParticle.REDSTONE.get(), item.getLocation(), 1, new Particle.DustOptions(color, 1.3f));
+            final Location location = item.getLocation();
+            if (ProjectileTicker.getInstance().canDisplayParticles(location))
+                item.getWorld().spawnParticle(VParticle.REDSTONE.get(), location, 1, dustOptions);
         }
     }
 }
@@ -13,8 +13,19 @@ import io.lumine.mythic.core.skills.SkillExecutor;
 import io.lumine.mythic.core.skills.SkillMechanic;
 import io.lumine.mythic.lib.api.crafting.uimanager.ProvidedUIFilter;
 import io.lumine.mythic.lib.api.crafting.uimanager.UIFilterManager;
-import net.Indyuce.mmoitems.MMOItems;
+import io.lumine.mythic.lib.entity.ProjectileMetadata;
+import io.lumine.mythic.lib.entity.ProjectileType;
+import io.lumine.mythic.lib.player.PlayerMetadata;
+import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.interaction.UseItemContext;
+import net.Indyuce.mmoitems.api.interaction.projectile.ArrowParticles;
+import net.Indyuce.mmoitems.api.interaction.projectile.ProjectileExpiryWheel;
+import net.Indyuce.mmoitems.api.interaction.projectile.ProjectilePayload;
+import net.Indyuce.mmoitems.api.interaction.weapon.Weapon;
+import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.listener.ItemUse;
+import net.Indyuce.mmoitems.util.AutoBindUtil;
+import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -30,6 +41,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An arrow volley method but uses the stats of the bow
@@ -172,36 +184,34 @@ public class MMOItemsArrowVolleyMechanic extends SkillMechanic implements ITarge
         ItemStack bowItem = player.getInventory().getItemInMainHand().clone();
         ItemStack localArrowItem = (arrowItem != null ? arrowItem.clone() : new ItemStack(Material.ARROW));
         //DBG//MMOItems.log("Deployed Item " + SilentNumbers.getItemName(arrowItem));
-        ItemUse use = new ItemUse();
 
-        // Parse
-        float arrowForce = statsMultiplier.get(data);
+        // Stats scale of every arrow
+        final float[] arrowForces = new float[Math.max(0, amount)];
+        for (int i = 0; i < arrowForces.length; i++)
+            arrowForces[i] = i == 0 || scalePerArrow ? statsMultiplier.get(data) : arrowForces[0];
 
         // Spawn arrows
-        ArrayList<Arrow> arrowList = new ArrayList<>();
-        for (int i = 0; i < amount; i++) {
+        final List<Arrow> arrowList = fullEvent ? shootWithEvents(player, bowItem, localArrowItem, spawn, v, velocity, spread, fireTicks, arrowForces)
+                : shootVolley(player, bowItem, spawn, v, velocity, spread, fireTicks, arrowForces);
 
-            // Spawn Arrow
-            Arrow a = player.getWorld().spawnArrow(spawn, v, velocity, (spread / 10.0F));
-            a.setVelocity(a.getVelocity());
-
-            if (allowPickup) {
-                a.setPickupStatus(AbstractArrow.PickupStatus.ALLOWED);
-            } else {
-                a.setPickupStatus(AbstractArrow.PickupStatus.DISALLOWED);
-            }
+        // Remove after delay
+        ProjectileExpiryWheel.getInstance().schedule(arrowList, removeDelay);
+    }
 
-            // Identify arrow as the player's
-            a.setShooter(player);
+    /**
+     * Calls a full bow shoot event for every arrow
+     */
+    @NotNull
+    private List<Arrow> shootWithEvents(@NotNull Player player, @NotNull ItemStack bowItem, @NotNull ItemStack localArrowItem, @NotNull Location spawn, @NotNull Vector v,
+                                        float velocity, float spread, int fireTicks, float[] arrowForces) {
+        final List<Arrow> arrowList = new ArrayList<>();
+        for (float arrowForce : arrowForces) {
+            final Arrow a = spawnArrow(player, spawn, v, velocity, spread);
 
             // Run Event
             syncEventBlock = true;
             EntityShootBowEvent shootBowEvent = new EntityShootBowEvent(player, bowItem, localArrowItem, a, EquipmentSlot.HAND, arrowForce, false);
-            if (fullEvent) {
-                Bukkit.getPluginManager().callEvent(shootBowEvent);
-            } else {
-                use.handleCustomBows(shootBowEvent);
-            }
+            Bukkit.getPluginManager().callEvent(shootBowEvent);
             syncEventBlock = false;
 
             // Cancelled???
@@ -217,20 +227,96 @@ public class MMOItemsArrowVolleyMechanic extends SkillMechanic implements ITarge
 
             // Add to list
             arrowList.add(a);
+        }
 
-            // Recalculate
-            if (scalePerArrow) {
-                arrowForce = statsMultiplier.get(data);
-            }
+        return arrowList;
+    }
+
+    /**
+     * Same as {@link ItemUse#handleCustomBows(EntityShootBowEvent)} except
+     * that the bow is decoded, checked and bound only once for the whole
+     * volley. All arrows share the same shooter stats and payload.
+     * <p>
+     * Weapon costs are still paid for every arrow. The volley stops
+     * at the first arrow the player cannot afford.
+     */
+    @NotNull
+    private List<Arrow> shootVolley(@NotNull Player player, @NotNull ItemStack bowItem, @NotNull Location spawn, @NotNull Vector v,
+                                    float velocity, float spread, int fireTicks, float[] arrowForces) {
+        if (arrowForces.length == 0) return new ArrayList<>();
+
+        final UseItemContext context = UseItemContext.get(player, bowItem);
+        final Type type = context.getType();
+        Weapon weapon = null;
+        PlayerMetadata shooterMeta = null;
+        ProjectilePayload payload = null;
+        double arrowVelocity = 0;
+
+        if (type != null) {
+            final PlayerData playerData = PlayerData.get(player);
+            weapon = context.getWeapon(playerData);
+
+            // Costs of the first arrow
+            if (!context.checkItemRequirements(weapon, true) || !weapon.checkAndApplyWeaponCosts())
+                return new ArrayList<>();
+
+            if (AutoBindUtil.applyAutoBindIfNeeded(playerData, context.getNBTItem(), EquipmentSlot.HAND))
+                UseItemContext.invalidate(player);
+            shooterMeta = playerData.getMMOPlayerData().getStatMap().cache(io.lumine.mythic.lib.api.player.EquipmentSlot.MAIN_HAND);
+            payload = ProjectilePayload.of(context.getNBTItem());
+            arrowVelocity = shooterMeta.getStat("ARROW_VELOCITY");
         }
 
-        // Remove after delay
-        Bukkit.getScheduler().scheduleSyncDelayedTask(MMOItems.plugin, () -> {
-            for (Arrow a : arrowList) {
-                a.remove();
+        final List<Arrow> arrowList = new ArrayList<>(arrowForces.length);
+        for (int i = 0; i < arrowForces.length; i++) {
+
+            // Costs of the next arrows
+            if (i > 0 && weapon != null && !weapon.checkAndApplyWeaponCosts())
+                break;
+
+            final float arrowForce = arrowForces[i];
+            final Arrow a = spawnArrow(player, spawn, v, velocity, spread);
+
+            if (type != null) {
+                final ProjectileMetadata proj = ProjectileMetadata.create(shooterMeta, type.getAttackDamageTypes(), ProjectileType.ARROW, a);
+                proj.setSourceItem(context.getNBTItem());
+                proj.setCustomDamage(true);
+                proj.setDamageMultiplier(MMOUtils.getForce(arrowForce));
+                ProjectilePayload.attach(proj, payload);
+                if (payload.getParticles() != null) new ArrowParticles(a, payload.getParticles());
+
+                // Apply arrow velocity
+                if (arrowVelocity > 0) a.setVelocity(a.getVelocity().multiply(arrowVelocity));
             }
-            arrowList.clear();
-        }, removeDelay);
+
+            // Set on fire I guess
+            if (fireTicks > 0) {
+                a.setFireTicks(fireTicks);
+            }
+
+            // Add to list
+            arrowList.add(a);
+        }
+
+        return arrowList;
+    }
+
+    @NotNull
+    private Arrow spawnArrow(@NotNull Player player, @NotNull Location spawn, @NotNull Vector v, float velocity, float spread) {
+
+        // Spawn Arrow
+        Arrow a = player.getWorld().spawnArrow(spawn, v, velocity, (spread / 10.0F));
+        a.setVelocity(a.getVelocity());
+
+        if (allowPickup) {
+            a.setPickupStatus(AbstractArrow.PickupStatus.ALLOWED);
+        } else {
+            a.setPickupStatus(AbstractArrow.PickupStatus.DISALLOWED);
+        }
+
+        // Identify arrow as the player's
+        a.setShooter(player);
+        return a;
     }
 
     static boolean syncEventBlock;
@@ -18,9 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Sure there is the 'onShoot' aura for bows, but what about
@@ -43,6 +41,21 @@ public class MMOItemsOnUseAura extends Aura implements ITargetedEntitySkill {
     @NotNull
     final ArrayList<UseItemTypes> auraWeapons = new ArrayList<>();
 
+    /**
+     * Last skill name which could not be resolved, so that
+     * the skill manager is not queried again for nothing
+     */
+    @Nullable
+    String unresolvedSkillName;
+
+    /**
+     * Active auras of every player, grouped by weapon type. One single
+     * subscription dispatches special weapon attacks to these auras.
+     */
+    private static final Map<UUID, PlayerAuras> ACTIVE_AURAS = new HashMap<>();
+    private static final Map<Class<?>, List<UseItemTypes>> WEAPON_TYPES = new HashMap<>();
+    private static boolean subscribed;
+
     public MMOItemsOnUseAura(SkillExecutor manager, File file, String line, MythicLineConfig mlc) {
         super(manager, file, line, mlc);
 
@@ -113,80 +126,138 @@ public class MMOItemsOnUseAura extends Aura implements ITargetedEntitySkill {
     }
 
     private class Tracker extends Aura.AuraTracker implements IParentSkill, Runnable {
+        private UUID uuid;
+
         public Tracker(SkillCaster caster, SkillMetadata data, AbstractEntity entity) {
             super(caster, entity, data);
             this.start();
         }
 
+        @NotNull
+        List<UseItemTypes> getWeapons() {
+            return auraWeapons;
+        }
+
         public void auraStart() {
-            this.registerAuraComponent(Events.subscribe(SpecialWeaponAttackEvent.class).filter((event) -> {
 
-                //SOM//OotilityCeption.Log("\u00a7cStep 3 \u00a77Subscribe Run: " + getName(event.getEntity()) + "\u00a77 vs " + getName(this.entity.get()) + "\u00a78 ~\u00a7e " + event.getEntity().getUniqueId().equals(this.entity.get().getUniqueId()));
+            // Player is the one who has the aura applied
+            uuid = this.entity.get().getUniqueId();
+            ACTIVE_AURAS.computeIfAbsent(uuid, unused -> new PlayerAuras()).add(this);
+            this.registerAuraComponent(() -> {
+                final PlayerAuras auras = ACTIVE_AURAS.get(uuid);
+                if (auras != null && auras.remove(this)) ACTIVE_AURAS.remove(uuid);
+            });
+
+            if (!subscribed) {
+                Events.subscribe(SpecialWeaponAttackEvent.class).handler(MMOItemsOnUseAura::dispatch);
+                subscribed = true;
+            }
 
-                // Player is the one who has the aura applied, right?
-                if (!event.getPlayer().getUniqueId().equals(this.entity.get().getUniqueId())) {
-                    return false;
-                }
+            this.executeAuraSkill(MMOItemsOnUseAura.this.onStartSkill, this.skillMetadata);
+        }
 
-                // All custom weapons fire it if none specified.
-                if (auraWeapons.size() == 0) {
-                    return true;
-                }
+        void handle(@NotNull SpecialWeaponAttackEvent event) {
 
-                // Okay go through all weapon types, must match one
-                for (UseItemTypes weap : auraWeapons) {
-                    if (weap.getInst().isInstance(event.getWeapon())) {
-                        return true;
-                    }
-                }
+            // Clone metadata
+            SkillMetadata meta = this.skillMetadata.deepClone();
 
-                // None matched
-                return false;
+            // Refresh
+            final Skill metaskill = resolveSkill(meta);
 
-            }).handler((event) -> {
+            // Target obviously the projectile
+            AbstractEntity target = BukkitAdapter.adapt(event.getTarget());
+            meta.setTrigger(target);
 
-                // Clone metadata
-                SkillMetadata meta = this.skillMetadata.deepClone();
+            //SOM//OotilityCeption.Log("\u00a7cStep 4 \u00a77Aura Run:\u00a7d " + logSkillData(meta) + "\u00a7b " + metaskill.getInternalName());
+            if (this.executeAuraSkill(Optional.ofNullable(metaskill), meta)) {
 
-                // Refresh
-                if (metaskill == null) {
-                    metaskill = GetSkill(skillName.get(meta, meta.getCaster().getEntity()));
+                this.consumeCharge();
+
+                if (cancelEvent) {
+                    event.setCancelled(true);
                 }
+            }
+        }
+    }
 
-                // Target obviously the projectile
-                AbstractEntity target = BukkitAdapter.adapt(event.getTarget());
-                meta.setTrigger(target);
+    @Nullable
+    private Skill resolveSkill(@NotNull SkillMetadata meta) {
+        if (metaskill != null) return metaskill;
 
-                //SOM//OotilityCeption.Log("\u00a7cStep 4 \u00a77Aura Run:\u00a7d " + logSkillData(meta) + "\u00a7b " + metaskill.getInternalName());
-                if (this.executeAuraSkill(Optional.ofNullable(metaskill), meta)) {
+        final String name = skillName.get(meta, meta.getCaster().getEntity());
+        if (name == null || name.equals(unresolvedSkillName)) return null;
 
-                    this.consumeCharge();
+        metaskill = GetSkill(name);
+        if (metaskill == null) unresolvedSkillName = name;
+        return metaskill;
+    }
 
-                    if (cancelEvent) {
-                        event.setCancelled(true);
-                    }
-                }
+    private static void dispatch(@NotNull SpecialWeaponAttackEvent event) {
+        final PlayerAuras auras = ACTIVE_AURAS.get(event.getPlayer().getUniqueId());
+        if (auras == null) return;
 
-            }));
-            this.executeAuraSkill(MMOItemsOnUseAura.this.onStartSkill, this.skillMetadata);
-        }
+        // Auras may end when handling the event
+        for (Tracker tracker : auras.getTrackers(event.getWeapon()))
+            tracker.handle(event);
     }
 
-    @Nullable
-    public static Skill GetSkill(String skillName) {
+    /**
+     * @return Weapon types matching the given weapon
+     */
+    @NotNull
+    private static List<UseItemTypes> getWeaponTypes(@NotNull Object weapon) {
+        return WEAPON_TYPES.computeIfAbsent(weapon.getClass(), clazz -> {
+            final List<UseItemTypes> types = new ArrayList<>();
+            for (UseItemTypes type : UseItemTypes.values())
+                if (type.getInst().isAssignableFrom(clazz)) types.add(type);
+            return types;
+        });
+    }
 
-        if (SkillExists(skillName)) {
+    /**
+     * Active auras of one player
+     */
+    private static class PlayerAuras {
 
-            Optional<Skill> mSkillFk = MythicBukkit.inst().getSkillManager().getSkill(skillName);
-            if (mSkillFk == null) {
-                return null;
-            }
-            if (mSkillFk.isPresent()) {
-                return mSkillFk.get();
+        // All custom weapons fire it if none specified.
+        private final List<Tracker> anyWeapon = new ArrayList<>();
+        private final Map<UseItemTypes, List<Tracker>> byWeapon = new EnumMap<>(UseItemTypes.class);
+
+        void add(@NotNull Tracker tracker) {
+            final List<UseItemTypes> weapons = tracker.getWeapons();
+            if (weapons.isEmpty()) anyWeapon.add(tracker);
+            else for (UseItemTypes weapon : weapons)
+                byWeapon.computeIfAbsent(weapon, unused -> new ArrayList<>()).add(tracker);
+        }
+
+        /**
+         * @return If there are no auras left
+         */
+        boolean remove(@NotNull Tracker tracker) {
+            anyWeapon.remove(tracker);
+            byWeapon.values().removeIf(trackers -> trackers.remove(tracker) && trackers.isEmpty());
+            return anyWeapon.isEmpty() && byWeapon.isEmpty();
+        }
+
+        @NotNull
+        List<Tracker> getTrackers(@NotNull Object weapon) {
+            final Set<Tracker> trackers = new LinkedHashSet<>(anyWeapon);
+            for (UseItemTypes type : getWeaponTypes(weapon)) {
+                final List<Tracker> ofType = byWeapon.get(type);
+                if (ofType != null) trackers.addAll(ofType);
             }
+            return new ArrayList<>(trackers);
+        }
+    }
+
+    @Nullable
+    public static Skill GetSkill(String skillName) {
+        if (skillName == null) {
+            return null;
         }
 
-        return null;
+        Optional<Skill> mSkillFk = MythicBukkit.inst().getSkillManager().getSkill(skillName);
+        return mSkillFk != null ? mSkillFk.orElse(null) : null;
     }
 
     public static boolean SkillExists(String skillName) {
@@ -9,16 +9,32 @@ import io.lumine.mythic.lib.manager.StatManager;
 import io.lumine.mythic.lib.util.DefenseFormula;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.Type;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
 public class MMOItemsPlaceholders extends PlaceholderExpansion {
+    private final Map<String, Resolver> resolvers = new ConcurrentHashMap<>();
+    private final Map<UUID, HeldItem> heldItems = new ConcurrentHashMap<>();
+    private final AtomicBoolean clearScheduled = new AtomicBoolean();
+
+    /**
+     * Identifiers are arbitrary user input, this
+     * prevents the resolver cache from growing forever
+     */
+    private static final int MAX_CACHED_IDENTIFIERS = 1024;
 
     @Override
     public String getAuthor() {
@@ -49,89 +65,141 @@ public class MMOItemsPlaceholders extends PlaceholderExpansion {
 
     @Override
     public String onRequest(@Nullable OfflinePlayer player, @NotNull String identifier) {
+        Resolver resolver = resolvers.get(identifier);
+        if (resolver == null) {
+            resolver = compile(identifier);
+            if (resolvers.size() < MAX_CACHED_IDENTIFIERS) resolvers.put(identifier, resolver);
+        }
+        return resolver.resolve(player);
+    }
+
+    /**
+     * Placeholder identifiers are parsed only once, the first time they
+     * are requested. Anything that can change on reload (types, tiers)
+     * is still looked up every time the placeholder is resolved.
+     */
+    @NotNull
+    private Resolver compile(@NotNull String identifier) {
 
         if (identifier.startsWith("type_")) {
-            String t = identifier.substring(5, identifier.lastIndexOf("_")).toUpperCase();
-            if (!MMOItems.plugin.getTypes().has(t)) return "Invalid type";
-            var type = net.Indyuce.mmoitems.api.Type.get(t);
-            String pholder = identifier.substring(6 + t.length()).toLowerCase();
-            if ("total".equals(pholder))
-                return "" + MMOItems.plugin.getTemplates().getTemplates(type).size();
-            return type.getName();
-			/*switch(pholder) {
-				case "total":
-					return "" + MMOItems.plugin.getTemplates().getTemplates(type).size();
-				default:
-					return type.getName();
-			}*/
+            final String t = identifier.substring(5, identifier.lastIndexOf("_")).toUpperCase();
+            final boolean total = "total".equals(identifier.substring(6 + t.length()).toLowerCase());
+            return player -> {
+                if (!MMOItems.plugin.getTypes().has(t)) return "Invalid type";
+                final Type type = Type.get(t);
+                return total ? String.valueOf(MMOItems.plugin.getTemplates().getTemplates(type).size()) : type.getName();
+            };
         }
 
-        // Player-related placeholders
-        if (player == null) return null;
-
         // registering before identifier.startsWith("stat_") to prevent issues
         // i don't register it in the starts with condition because it will mess
         // with substring
-        if (identifier.equals("stat_defense_percent")) {
+        if (identifier.equals("stat_defense_percent")) return player -> {
+            if (player == null) return null;
             final double defenseStat = MMOPlayerData.get(player).getStatMap().getStat("DEFENSE");
             final double damageReduction = 100 - new DefenseFormula().getAppliedDamage(defenseStat, 100);
             return MythicLib.plugin.getMMOConfig().decimal.format(damageReduction);
-        }
+        };
 
         if (identifier.startsWith("stat_")) {
             final String stat = UtilityMethods.enumName(identifier.substring(5));
-            return StatManager.format(stat, MMOPlayerData.get(player));
+            return player -> player == null ? null : StatManager.format(stat, MMOPlayerData.get(player));
         }
 
-        if (identifier.startsWith("ability_cd_"))
-            return MythicLib.plugin.getMMOConfig().decimal.format(MMOPlayerData.get(player).getCooldownMap().getCooldown("skill_" + identifier.substring(11)));
-
-        if (identifier.startsWith("tier_")) {
-            String t = identifier.substring(5).toUpperCase();
-            if (!MMOItems.plugin.getTiers().has(t)) return "Invalid tier";
-            return MMOItems.plugin.getTiers().get(t).getName();
+        if (identifier.startsWith("ability_cd_")) {
+            final String cooldownPath = "skill_" + identifier.substring(11);
+            return player -> player == null ? null : MythicLib.plugin.getMMOConfig().decimal.format(MMOPlayerData.get(player).getCooldownMap().getCooldown(cooldownPath));
         }
 
-        if (!player.isOnline()) return null;
-
-        if (identifier.equals("durability")) {
-            NBTItem nbt = MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getPlayer().getInventory().getItemInMainHand());
-            return String.valueOf(nbt.hasTag("MMOITEMS_DURABILITY") ? nbt.getInteger("MMOITEMS_DURABILITY") : nbt.getInteger("MMOITEMS_MAX_DURABILITY"));
+        if (identifier.startsWith("tier_")) {
+            final String t = identifier.substring(5).toUpperCase();
+            return player -> {
+                if (player == null) return null;
+                if (!MMOItems.plugin.getTiers().has(t)) return "Invalid tier";
+                return MMOItems.plugin.getTiers().get(t).getName();
+            };
         }
 
-        if (identifier.equals("durability_max"))
-            return "" + (int) MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getPlayer().getInventory().getItemInMainHand())
-                    .getDouble("MMOITEMS_MAX_DURABILITY");
-
-        if (identifier.equals("durability_ratio")) {
-            NBTItem item = MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getPlayer().getInventory().getItemInMainHand());
-            double durability = item.getDouble("MMOITEMS_DURABILITY");
-            double maxDurability = item.getDouble("MMOITEMS_MAX_DURABILITY");
-            return MythicLib.plugin.getMMOConfig().decimal.format(durability / maxDurability * 100);
+        switch (identifier) {
+            case "durability":
+                return heldItem(held -> String.valueOf(held.hasDurability ? held.durabilityInt : held.maxDurabilityInt));
+            case "durability_max":
+                return heldItem(held -> String.valueOf((int) held.maxDurability));
+            case "durability_ratio":
+                return heldItem(held -> MythicLib.plugin.getMMOConfig().decimal.format(held.durability / held.maxDurability * 100));
+            case "durability_bar_square":
+                return heldItem(held -> getDurabilityBar(held, AltChar.square, 10));
+            case "durability_bar_diamond":
+                return heldItem(held -> getDurabilityBar(held, AltChar.diamond, 15));
+            case "durability_bar_thin":
+                return heldItem(held -> getDurabilityBar(held, "|", 20));
+            default:
+                return player -> null;
         }
+    }
 
-        if (identifier.equals("durability_bar_square"))
-            return getCurrentDurabilityBar(player.getPlayer().getInventory().getItemInMainHand(), AltChar.square, 10);
-
-        if (identifier.equals("durability_bar_diamond"))
-            return getCurrentDurabilityBar(player.getPlayer().getInventory().getItemInMainHand(), AltChar.diamond, 15);
+    @NotNull
+    private Resolver heldItem(@NotNull Function<HeldItem, String> function) {
+        return player -> {
+            if (player == null || !player.isOnline()) return null;
+            return function.apply(getHeldItem(player.getPlayer()));
+        };
+    }
 
-        if (identifier.equals("durability_bar_thin"))
-            return getCurrentDurabilityBar(player.getPlayer().getInventory().getItemInMainHand(), "|", 20);
-        return null;
+    /**
+     * Scoreboards request placeholders for every player many times per
+     * tick. Durability values of the held item are only read once per
+     * tick, or again if the player switches to another hotbar slot.
+     */
+    @NotNull
+    private HeldItem getHeldItem(@NotNull Player player) {
+        final int slot = player.getInventory().getHeldItemSlot();
+        HeldItem held = heldItems.get(player.getUniqueId());
+        if (held != null && held.slot == slot) return held;
+
+        held = new HeldItem(slot, MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getInventory().getItemInMainHand()));
+        heldItems.put(player.getUniqueId(), held);
+
+        // Cache is cleared on the next tick
+        if (clearScheduled.compareAndSet(false, true))
+            Bukkit.getScheduler().runTask(MMOItems.plugin, () -> {
+                clearScheduled.set(false);
+                heldItems.clear();
+            });
+
+        return held;
     }
 
-    private String getCurrentDurabilityBar(ItemStack item, String barChar, int length) {
-        NBTItem nbtItem = MythicLib.plugin.getVersion().getWrapper().getNBTItem(item);
-        double durability = nbtItem.getDouble("MMOITEMS_DURABILITY");
-        double maxDurability = nbtItem.getDouble("MMOITEMS_MAX_DURABILITY");
-        long r = Math.round(durability / maxDurability * length);
+    private String getDurabilityBar(HeldItem held, String barChar, int length) {
+        long r = Math.round(held.durability / held.maxDurability * length);
         StringBuilder bar = new StringBuilder("" + ChatColor.GREEN);
         for (int j = 0; j < length; j++)
             bar.append(j == r ? ChatColor.WHITE : "").append(barChar);
         return bar.toString();
     }
 
+    @FunctionalInterface
+    private interface Resolver {
+
+        @Nullable
+        String resolve(@Nullable OfflinePlayer player);
+    }
+
+    private static class HeldItem {
+        private final int slot, durabilityInt, maxDurabilityInt;
+        private final boolean hasDurability;
+        private final double durability, maxDurability;
+
+        HeldItem(int slot, NBTItem nbt) {
+            this.slot = slot;
+            this.hasDurability = nbt.hasTag("MMOITEMS_DURABILITY");
+            this.durabilityInt = nbt.getInteger("MMOITEMS_DURABILITY");
+            this.maxDurabilityInt = nbt.getInteger("MMOITEMS_MAX_DURABILITY");
+            this.durability = nbt.getDouble("MMOITEMS_DURABILITY");
+            this.maxDurability = nbt.getDouble("MMOITEMS_MAX_DURABILITY");
+        }
+    }
+
     private boolean hasItem(Player player, EquipmentSlot slot) {
         return player.getInventory().getItem(slot) != null && player.getInventory().getItem(slot).getType() != Material.AIR;
     }
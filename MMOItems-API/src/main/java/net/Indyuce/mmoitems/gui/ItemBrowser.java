@@ -9,6 +9,7 @@ import io.lumine.mythic.lib.version.Sounds;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.Type;
 import net.Indyuce.mmoitems.api.edition.NewItemEdition;
+import net.Indyuce.mmoitems.api.event.TemplateReloadEvent;
 import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.gui.edition.ItemEdition;
@@ -21,6 +22,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryAction;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
@@ -28,6 +30,11 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
 public class ItemBrowser extends MMOItemsInventory {
+
+    /**
+     * Items displayed for every template, kept when switching pages
+     * and only built again when their template is reloaded
+     */
     private final Map<String, ItemStack> cached = new LinkedHashMap<>();
 
     @NotNull
@@ -38,10 +45,17 @@ public class ItemBrowser extends MMOItemsInventory {
     private static final int[] slots = {10, 11, 12, 13, 14, 15, 16, 19, 20, 21, 22, 23, 24, 25, 28, 29, 30, 31, 32, 33, 34};
     private static final int[] slotsAlt = {1, 2, 3, 4, 5, 6, 7, 10, 11, 12, 13, 14, 15, 16, 19, 20, 21, 22, 23, 24, 25, 28, 29, 30, 31, 32, 33, 34};
 
+    /**
+     * Browsers are kept by navigators when opening the item edition
+     * GUI, so their cache is also cleared while they are not opened
+     */
+    private static final Set<ItemBrowser> BROWSERS = Collections.newSetFromMap(new WeakHashMap<>());
+
     public ItemBrowser(Navigator navigator, Type type) {
         super(navigator);
 
         this.type = type;
+        BROWSERS.add(this);
     }
 
     public static ItemBrowser of(Player player, Type type) {
@@ -166,6 +180,19 @@ public class ItemBrowser extends MMOItemsInventory {
                 continue;
             }
 
+            // Already built?
+            final ItemStack cachedItem = cached.get(template.getId());
+            if (cachedItem != null) {
+                inv.setItem(usedSlots[n], cachedItem);
+
+                n += 7;
+                if (n >= usedSlots.length) {
+                    n -= 7 * sc;
+                    n++;
+                }
+                continue;
+            }
+
             // Build item -> any errors?
             final ItemStack item = template.newBuilder(PlayerData.get(playerData).getRPG(), true).build().newBuilder().build();
             if (item == null || item.getType().isAir() || !item.getType().isItem() || item.getItemMeta() == null) {
@@ -250,6 +277,34 @@ public class ItemBrowser extends MMOItemsInventory {
         return type;
     }
 
+    /**
+     * Items of reloaded templates are built again in item browsers.
+     * Browsers players currently have opened are refreshed.
+     *
+     * @param event Templates which were reloaded
+     */
+    public static void refresh(@NotNull TemplateReloadEvent event) {
+        final Set<ItemBrowser> changed = new HashSet<>();
+        for (ItemBrowser browser : BROWSERS)
+            if (event.isFullReload()) {
+                browser.cached.clear();
+                changed.add(browser);
+            } else {
+                for (MMOItemTemplate template : event.getRemoved())
+                    if (template.getType().equals(browser.type) && browser.cached.remove(template.getId()) != null)
+                        changed.add(browser);
+                for (MMOItemTemplate template : event.getLoaded())
+                    if (template.getType().equals(browser.type))
+                        changed.add(browser);
+            }
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            final InventoryHolder holder = player.getOpenInventory().getTopInventory().getHolder();
+            if (holder instanceof ItemBrowser && changed.contains(holder))
+                ((ItemBrowser) holder).open();
+        }
+    }
+
     @Override
     public void whenClicked(InventoryClickEvent event) {
         event.setCancelled(true);
@@ -273,12 +328,14 @@ public class ItemBrowser extends MMOItemsInventory {
 
             else if (item.getItemMeta().getDisplayName().equals(ChatColor.RED + "Cancel Deletion")) {
                 deleteMode = false;
+                cached.clear();
                 open();
             } else if (item.getItemMeta().getDisplayName().equals(ChatColor.GREEN + "Create New"))
                 new NewItemEdition(this).enable("Write in the chat the text you want.");
 
             else if ( item.getItemMeta().getDisplayName().equals(ChatColor.RED + "Delete Item")) {
                 deleteMode = true;
+                cached.clear();
                 open();
             }
         }
@@ -290,6 +347,7 @@ public class ItemBrowser extends MMOItemsInventory {
         if (deleteMode) {
             MMOItems.plugin.getTemplates().deleteTemplate(type, id);
             deleteMode = false;
+            cached.clear();
             open();
 
         } else {
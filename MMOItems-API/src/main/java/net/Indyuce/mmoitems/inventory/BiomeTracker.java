@@ -0,0 +1,90 @@
+package net.Indyuce.mmoitems.inventory;
+
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.player.PlayerData;
+import org.bukkit.Location;
+import org.bukkit.block.Biome;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Only players with equipped items requiring biomes have their biome
+ * tracked. Biomes are sampled by one single scheduler task, which only
+ * runs while some player is tracked. Players are spread over the
+ * sampling period so that they are not all sampled during the same tick.
+ * <p>
+ * When the biome of a player changes, only items requiring
+ * biomes are checked again.
+ */
+public class BiomeTracker implements Runnable {
+    private final Map<UUID, TrackedPlayer> tracked = new LinkedHashMap<>();
+    private BukkitTask task;
+    private int counter, tick;
+
+    private static final BiomeTracker INSTANCE = new BiomeTracker();
+
+    public static BiomeTracker getInstance() {
+        return INSTANCE;
+    }
+
+    public void track(@NotNull PlayerData playerData) {
+        if (tracked.containsKey(playerData.getUniqueId())) return;
+
+        tracked.put(playerData.getUniqueId(), new TrackedPlayer(playerData, counter++));
+        if (task == null) task = MMOItems.plugin.getServer().getScheduler().runTaskTimer(MMOItems.plugin, this, 1, 1);
+    }
+
+    public void untrack(@NotNull PlayerData playerData) {
+        tracked.remove(playerData.getUniqueId());
+    }
+
+    @Override
+    public void run() {
+        if (tracked.isEmpty()) {
+            task.cancel();
+            task = null;
+            return;
+        }
+
+        final int period = MMOItems.plugin.getLanguage().biomeCheckPeriod;
+        final int current = Math.floorMod(tick++, period);
+        for (Iterator<TrackedPlayer> iterator = tracked.values().iterator(); iterator.hasNext(); ) {
+            final TrackedPlayer trackedPlayer = iterator.next();
+            if (Math.floorMod(trackedPlayer.offset, period) != current) continue;
+
+            if (!trackedPlayer.playerData.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+
+            final Biome biome = getBiome(trackedPlayer.playerData);
+            if (biome == trackedPlayer.biome) continue;
+
+            trackedPlayer.biome = biome;
+            trackedPlayer.playerData.getInventory().resolveBiomeModifiers();
+        }
+    }
+
+    @NotNull
+    private static Biome getBiome(@NotNull PlayerData playerData) {
+        final Location location = playerData.getPlayer().getLocation();
+        return location.getWorld().getBiome(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private static class TrackedPlayer {
+        private final PlayerData playerData;
+        private final int offset;
+        private Biome biome;
+
+        TrackedPlayer(PlayerData playerData, int offset) {
+            this.playerData = playerData;
+            this.offset = offset;
+            this.biome = getBiome(playerData);
+        }
+    }
+}
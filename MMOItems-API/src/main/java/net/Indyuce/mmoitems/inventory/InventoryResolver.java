@@ -66,6 +66,12 @@ public class InventoryResolver {
      */
     private final Set<EquippedItem> activeItems = new HashSet<>();
 
+    /**
+     * Equipped items which can only be used in some biomes.
+     * Biome is only tracked while this set is not empty
+     */
+    private final Set<EquippedItem> biomeRestrictedItems = new HashSet<>();
+
     // Item set logic
     private final Map<ItemSet, Integer> itemSetCount = new HashMap<>();
     private final ModifierSupplier setModifierSupplier = new SimpleModifierSupplier();
@@ -115,6 +121,8 @@ public class InventoryResolver {
             for (var equipped : activeItems) if (equipped.applied) unapplyModifiers(equipped);
         });
         activeItems.clear();
+        biomeRestrictedItems.clear();
+        BiomeTracker.getInstance().untrack(playerData);
 
         // 清理套装增益
         itemSetCount.clear();
@@ -222,6 +230,8 @@ public class InventoryResolver {
 
     private void registerItem(@NotNull EquippedItem equippedItem) {
         Validate.isTrue(activeItems.add(equippedItem), "Item already registered");
+        if (equippedItem.getItem().hasTag(ItemStats.REQUIRED_BIOMES.getNBTPath()) && biomeRestrictedItems.add(equippedItem) && biomeRestrictedItems.size() == 1)
+            BiomeTracker.getInstance().track(playerData);
         Bukkit.getPluginManager().callEvent(new ItemEquipEvent(playerData, equippedItem));
         callBackwardsCompatibleEvent();
         resolveModifiers(equippedItem);
@@ -229,6 +239,8 @@ public class InventoryResolver {
 
     private void unregisterItem(@NotNull EquippedItem unequippedItem) {
         Validate.isTrue(activeItems.remove(unequippedItem), "Item not found");
+        if (biomeRestrictedItems.remove(unequippedItem) && biomeRestrictedItems.isEmpty())
+            BiomeTracker.getInstance().untrack(playerData);
         Bukkit.getPluginManager().callEvent(new ItemUnequipEvent(playerData, unequippedItem));
         callBackwardsCompatibleEvent();
         if (unequippedItem.applied) unapplyModifiers(unequippedItem);
@@ -251,6 +263,17 @@ public class InventoryResolver {
         }
     }
 
+    /**
+     * Called when the player changes biome. Only items
+     * requiring biomes need to be checked again
+     */
+    public void resolveBiomeModifiers() {
+        for (EquippedItem equippedItem : biomeRestrictedItems) {
+            equippedItem.flushCache();
+            resolveModifiers(equippedItem);
+        }
+    }
+
     private void resolveModifiers(@NotNull EquippedItem equippedItem) {
         boolean valid = equippedItem.isPlacementLegal() && equippedItem.isUsable(playerData.getRPG());
         if (valid && !equippedItem.applied) applyModifiers(equippedItem);
@@ -18,6 +18,7 @@ import net.Indyuce.mmoitems.api.event.item.SpecialWeaponAttackEvent;
 import net.Indyuce.mmoitems.api.event.item.UntargetedWeaponUseEvent;
 import net.Indyuce.mmoitems.api.interaction.*;
 import net.Indyuce.mmoitems.api.interaction.projectile.ArrowParticles;
+import net.Indyuce.mmoitems.api.interaction.projectile.ProjectilePayload;
 import net.Indyuce.mmoitems.api.interaction.weapon.Weapon;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.api.util.message.Message;
@@ -59,7 +60,8 @@ public class ItemUse implements Listener {
 
         // [WTF BUKKIT] When hitting entities, `event.getItem()` is set to `null`
         final var eventItem = resolveEventItem(event);
-        final NBTItem item = NBTItem.get(eventItem);
+        final UseItemContext context = UseItemContext.get(event.getPlayer(), eventItem);
+        final NBTItem item = context.getNBTItem();
 
         // PlayerInteracts cancellability are a little bit trickier
         if (event.useItemInHand() == Event.Result.DENY) return;
@@ -80,7 +82,7 @@ public class ItemUse implements Listener {
         // No interaction with air
         if (UtilityMethods.isAir(eventItem)) return;
 
-        final Type itemType = Type.get(item);
+        final Type itemType = context.getType();
         if (itemType == null) return;
 
         /*
@@ -88,7 +90,7 @@ public class ItemUse implements Listener {
          * animation and are handled there {@link #handleVanillaEatenConsumables(PlayerItemConsumeEvent)}
          */
         final Player player = event.getPlayer();
-        final UseItem useItem = itemType.toUseItem(playerData, item);
+        final UseItem useItem = context.getUseItem(playerData);
         if (useItem instanceof Consumable) {
 
             // Vanilla eating is handled within another event
@@ -101,7 +103,7 @@ public class ItemUse implements Listener {
         }
 
         // Disable most interactions (shield blocking, eating...)
-        if (!useItem.checkItemRequirements()) {
+        if (!context.checkItemRequirements(useItem, true)) {
             event.setUseItemInHand(Event.Result.DENY);
             return;
         }
@@ -117,10 +119,12 @@ public class ItemUse implements Listener {
             }
 
             // 先尝试自动绑定（仅在绑定成功时由工具方法写回对应手槽）
-            net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, item, event.getHand());
+            if (net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, item, event.getHand()))
+                UseItemContext.invalidate(player);
 
             if (useItem instanceof Consumable) {
                 event.setUseItemInHand(Event.Result.DENY);
+                UseItemContext.invalidate(player);
                 Consumable.ConsumableConsumeResult result = ((Consumable) useItem).useOnPlayer(event.getHand(), false);
                 if (result == Consumable.ConsumableConsumeResult.CANCEL) return;
 
@@ -153,8 +157,9 @@ public class ItemUse implements Listener {
         final var attackMeta = (MeleeAttackMetadata) event.getAttack();
         final var player = event.getPlayer();
         final var weaponUsed = player.getInventory().getItem(attackMeta.getHand().toBukkit());
-        final var nbtItem = MythicLib.plugin.getVersion().getWrapper().getNBTItem(weaponUsed);
-        final var itemType = Type.get(nbtItem);
+        final var context = UseItemContext.get(player, weaponUsed);
+        final var nbtItem = context.getNBTItem();
+        final var itemType = context.getType();
         if (itemType == null || itemType == Type.BLOCK) return;
 
         // Prevent melee attacks with non-melee weapons
@@ -165,14 +170,15 @@ public class ItemUse implements Listener {
 
         // Check item requirements
         final var playerData = PlayerData.get(player);
-        final var weapon = new Weapon(playerData, nbtItem);
-        if (!weapon.checkItemRequirements()) {
+        final var weapon = context.getWeapon(playerData);
+        if (!context.checkItemRequirements(weapon, true)) {
             event.setCancelled(true);
             return;
         }
 
         // 先尝试自动绑定（仅在绑定成功时由工具方法写回对应手槽）
-        net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, nbtItem, attackMeta.getHand().toBukkit());
+        if (net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, nbtItem, attackMeta.getHand().toBukkit()))
+            UseItemContext.invalidate(player);
 
         // Apply melee attack
         if (!weapon.handleTargetedAttack(attackMeta, event.getAttacker(), event.getEntity(), event))
@@ -187,17 +193,19 @@ public class ItemUse implements Listener {
         final Block block = event.getBlock();
         if (player.getGameMode() == GameMode.CREATIVE) return;
 
-        NBTItem item = MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getInventory().getItemInMainHand());
+        final UseItemContext context = UseItemContext.get(player, player.getInventory().getItemInMainHand());
+        final NBTItem item = context.getNBTItem();
         if (!item.hasType()) return;
 
-        Tool tool = new Tool(PlayerData.get(player), item);
-        if (!tool.checkItemRequirements()) {
+        final Tool tool = context.getTool(PlayerData.get(player));
+        if (!context.checkItemRequirements(tool, true)) {
             event.setCancelled(true);
             return;
         }
 
         // 先尝试自动绑定（仅在绑定成功时由工具方法写回主手）
-        net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(PlayerData.get(player), item, org.bukkit.inventory.EquipmentSlot.HAND);
+        if (net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(PlayerData.get(player), item, org.bukkit.inventory.EquipmentSlot.HAND))
+            UseItemContext.invalidate(player);
 
         if (tool.miningEffects(block)) event.setCancelled(true);
     }
@@ -207,9 +215,9 @@ public class ItemUse implements Listener {
         final Player player = event.getPlayer();
         if (!(event.getRightClicked() instanceof LivingEntity)) return;
 
-        final NBTItem item = MythicLib.plugin.getVersion().getWrapper().getNBTItem(player.getInventory().getItem(event.getHand()));
-        final Type itemType = Type.get(item);
-        if (itemType == null) return;
+        final UseItemContext context = UseItemContext.get(player, player.getInventory().getItem(event.getHand()));
+        final NBTItem item = context.getNBTItem();
+        if (context.getType() == null) return;
 
         final LivingEntity target = (LivingEntity) event.getRightClicked();
         if (!UtilityMethods.canTarget(player, target, InteractionType.OFFENSE_ACTION)) return;
@@ -220,12 +228,13 @@ public class ItemUse implements Listener {
          * This is actually a silent check, because Spigot always calls PlayerInteractEvent at the same
          * time. If the item is not usable, this event will already send a message. Fixes MMOItems#1680
          */
-        final UseItem usableItem = itemType.toUseItem(player, item);
-        if (!usableItem.checkItemRequirements(false)) return;
+        final UseItem usableItem = context.getUseItem(PlayerData.get(player));
+        if (!context.checkItemRequirements(usableItem, false)) return;
 
         // Apply type-specific entity interactions
         // 先尝试自动绑定（仅在绑定成功时由工具方法写回对应手槽）
-        net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(usableItem.getPlayerData(), item, event.getHand());
+        if (net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(usableItem.getPlayerData(), item, event.getHand()))
+            UseItemContext.invalidate(player);
         final SkillHandler<?> onEntityInteract = usableItem.getMMOItem().getType().onEntityInteract();
         if (onEntityInteract != null) {
             SpecialWeaponAttackEvent called = new SpecialWeaponAttackEvent(usableItem.getPlayerData(), (Weapon) usableItem, target);
@@ -297,13 +306,15 @@ public class ItemUse implements Listener {
     public void handleCustomBows(EntityShootBowEvent event) {
         if (!(event.getProjectile() instanceof AbstractArrow) || !(event.getEntity() instanceof Player)) return;
 
-        final NBTItem item = NBTItem.get(event.getBow());
-        final Type type = Type.get(item.getType());
+        final Player player = (Player) event.getEntity();
+        final UseItemContext context = UseItemContext.get(player, event.getBow());
+        final NBTItem item = context.getNBTItem();
+        final Type type = context.getType();
 
         if (type != null) {
-            final PlayerData playerData = PlayerData.get((Player) event.getEntity());
-            final Weapon weapon = new Weapon(playerData, item);
-            if (!weapon.checkItemRequirements() || !weapon.checkAndApplyWeaponCosts()) {
+            final PlayerData playerData = PlayerData.get(player);
+            final Weapon weapon = context.getWeapon(playerData);
+            if (!context.checkItemRequirements(weapon, true) || !weapon.checkAndApplyWeaponCosts()) {
                 event.setCancelled(true);
                 return;
             }
@@ -311,14 +322,16 @@ public class ItemUse implements Listener {
             final var damageTypes = type.getAttackDamageTypes();
             final var bowSlot = EquipmentSlot.fromBukkit(MMOUtils.getHand(event, playerData.getPlayer()));
             // 先尝试自动绑定（仅在绑定成功时由工具方法写回弓所在槽位）
-            net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, item, bowSlot.toBukkit());
+            if (net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(playerData, item, bowSlot.toBukkit()))
+                UseItemContext.invalidate(player);
             final var shooterMeta = playerData.getMMOPlayerData().getStatMap().cache(bowSlot);
             final var proj = ProjectileMetadata.create(shooterMeta, damageTypes, ProjectileType.ARROW, event.getProjectile());
             proj.setSourceItem(item);
             proj.setCustomDamage(true);
             proj.setDamageMultiplier(MMOUtils.getForce(event));
-            if (item.hasTag("MMOITEMS_ARROW_PARTICLES"))
-                new ArrowParticles((AbstractArrow) event.getProjectile(), item);
+            final ProjectilePayload payload = ProjectilePayload.attach(proj);
+            if (payload.getParticles() != null)
+                new ArrowParticles((AbstractArrow) event.getProjectile(), payload.getParticles());
             final AbstractArrow arrow = (AbstractArrow) event.getProjectile();
 
             // Apply arrow velocity
@@ -333,13 +346,13 @@ public class ItemUse implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void handleVanillaEatenConsumables(PlayerItemConsumeEvent event) {
-        final NBTItem item = MythicLib.plugin.getVersion().getWrapper().getNBTItem(event.getItem());
-        final Type itemType = Type.get(item);
-        if (itemType == null) return;
+        final Player player = event.getPlayer();
+        final UseItemContext context = UseItemContext.get(player, event.getItem());
+        final NBTItem item = context.getNBTItem();
+        if (context.getType() == null) return;
 
-        Player player = event.getPlayer();
-        UseItem useItem = itemType.toUseItem(player, item);
-        if (!useItem.checkItemRequirements()) {
+        final UseItem useItem = context.getUseItem(PlayerData.get(player));
+        if (!context.checkItemRequirements(useItem, true)) {
             event.setCancelled(true);
             return;
         }
@@ -357,6 +370,7 @@ public class ItemUse implements Listener {
             org.bukkit.inventory.EquipmentSlot consumeSlot = MMOUtils.getHand(event);
             net.Indyuce.mmoitems.util.AutoBindUtil.applyAutoBindIfNeeded(useItem.getPlayerData(), item, consumeSlot);
 
+            UseItemContext.invalidate(player);
             Consumable.ConsumableConsumeResult result = ((Consumable) useItem).useOnPlayer(consumeSlot, true);
 
             // No effects are applied and not consumed
@@ -0,0 +1,20 @@
+package net.Indyuce.mmoitems.listener;
+
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.event.TemplateReloadEvent;
+import net.Indyuce.mmoitems.gui.ItemBrowser;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+/**
+ * Refreshes what is built from item templates, only for
+ * the templates which were reloaded.
+ */
+public class TemplateReloadListener implements Listener {
+
+    @EventHandler
+    public void onTemplateReload(TemplateReloadEvent event) {
+        MMOItems.plugin.getRecipes().update(event);
+        ItemBrowser.refresh(event);
+    }
+}
@@ -12,6 +12,7 @@ import org.bukkit.Material;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.MultipleFacing;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -58,6 +59,12 @@ public class BlockManager implements Reloadable {
 	 */
 	private final Map<Integer, CustomBlock> mushroomStateValue = new HashMap<>();
 
+	/*
+	 * same as above, packed in an array indexed by mushroom material and
+	 * face mask so that looking up a block state does not allocate anything
+	 */
+	private final CustomBlock[] stateLookup = new CustomBlock[3 * 64];
+
 	public BlockManager() {
 		reload();
 	}
@@ -65,6 +72,7 @@ public class BlockManager implements Reloadable {
 	public void register(CustomBlock block) {
 		customBlocks.put(block.getId(), block);
 		mushroomStateValue.put(block.getState().getUniqueId(), block);
+		stateLookup[getMaterialIndex(block.getState().getType()) * 64 + block.getState().getFaceMask()] = block;
 		if (block.hasGenTemplate())
 			MMOItems.plugin.getWorldGen().assign(block, block.getGenTemplate());
 	}
@@ -79,14 +87,27 @@ public class BlockManager implements Reloadable {
 
 	// Gets a CustomBlock instance from a mushroom blockstate.
 	public Optional<CustomBlock> getFromBlock(BlockData data) {
-		if (!isMushroomBlock(data.getMaterial()) || !(data instanceof MultipleFacing))
-			return Optional.empty();
-
-		MultipleFacing mfData = (MultipleFacing) data;
-		MushroomState state = new MushroomState(data.getMaterial(), mfData.hasFace(BlockFace.UP), mfData.hasFace(BlockFace.DOWN),
-				mfData.hasFace(BlockFace.WEST), mfData.hasFace(BlockFace.EAST), mfData.hasFace(BlockFace.SOUTH), mfData.hasFace(BlockFace.NORTH));
+		return Optional.ofNullable(getCustomBlock(data));
+	}
 
-		return isVanilla(state) ? Optional.empty() : Optional.of(getBlock(state));
+	/**
+	 * Same as {@link #getFromBlock(BlockData)} without any allocation,
+	 * for listeners that are called very often.
+	 *
+	 * @param data Block data
+	 * @return Custom block with that block data, or null if it is not one
+	 */
+	@Nullable
+	public CustomBlock getCustomBlock(BlockData data) {
+		final int materialIndex = getMaterialIndex(data.getMaterial());
+		if (materialIndex < 0 || !(data instanceof MultipleFacing))
+			return null;
+
+		final MultipleFacing mfData = (MultipleFacing) data;
+		final int mask = (mfData.hasFace(BlockFace.UP) ? 32 : 0) | (mfData.hasFace(BlockFace.DOWN) ? 16 : 0)
+				| (mfData.hasFace(BlockFace.WEST) ? 8 : 0) | (mfData.hasFace(BlockFace.EAST) ? 4 : 0)
+				| (mfData.hasFace(BlockFace.SOUTH) ? 2 : 0) | (mfData.hasFace(BlockFace.NORTH) ? 1 : 0);
+		return stateLookup[materialIndex * 64 + mask];
 	}
 
 	public Collection<CustomBlock> getAll() {
@@ -102,12 +123,17 @@ public class BlockManager implements Reloadable {
 	}
 
 	public boolean isMushroomBlock(Material type) {
-		return type == Material.BROWN_MUSHROOM_BLOCK || type == Material.MUSHROOM_STEM || type == Material.RED_MUSHROOM_BLOCK;
+		return getMaterialIndex(type) >= 0;
+	}
+
+	private static int getMaterialIndex(Material type) {
+		return type == Material.BROWN_MUSHROOM_BLOCK ? 0 : type == Material.RED_MUSHROOM_BLOCK ? 1 : type == Material.MUSHROOM_STEM ? 2 : -1;
 	}
 
 	public void reload() {
 		customBlocks.clear();
 		mushroomStateValue.clear();
+		Arrays.fill(stateLookup, null);
 
 		for (MMOItemTemplate template : MMOItems.plugin.getTemplates().getTemplates(Type.BLOCK)) {
 			MMOItem mmoitem = template.newBuilder(0, null).build();
@@ -6,8 +6,10 @@ import io.lumine.mythic.lib.util.lang3.Validate;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.ConfigFile;
 import net.Indyuce.mmoitems.api.ReforgeOptions;
+import net.Indyuce.mmoitems.api.interaction.DisabledInteraction;
 import net.Indyuce.mmoitems.api.util.NumericStatFormula;
 import net.Indyuce.mmoitems.api.util.message.Message;
+import net.Indyuce.mmoitems.reforge.ReforgeReason;
 import net.Indyuce.mmoitems.stat.GemUpgradeScaling;
 import net.Indyuce.mmoitems.stat.LuteAttackEffectStat.LuteAttackEffect;
 import net.Indyuce.mmoitems.util.LanguageFile;
@@ -45,15 +47,24 @@ public class ConfigManager implements Reloadable {
     // Cached config options
     public boolean replaceMushroomDrops, worldGenEnabled, upgradeRequirementsCheck, keepSoulboundOnDeath, rerollOnItemUpdate, opStatsEnabled, disableRemovedItems;
     public boolean disableConsumableBlockClicks, weaponFlagChecks, consumableFlagChecks, toolFlagChecks, commandFlagChecks, itemGrantedPermissions, itemCommands;
-    public boolean durabilityLossOnMmoDamage;
-    public int itemDurabilityLossCap;
-    public double soulboundBaseDamage, soulboundPerLvlDamage, levelSpread;
+    public boolean durabilityLossOnMmoDamage, incrementalGemApply, incrementalTemplateReload, templateSnapshotCache, itemPermissions, lockedSkins;
+    public int itemDurabilityLossCap, revisionUpdatesPerTick, projectileParticleBudget, templateParseThreads, biomeCheckPeriod, areaBreakBudget, deathDowngradesPerTick;
+    public double projectileParticleViewDistance;
+    public double soulboundBaseDamage, soulboundPerLvlDamage, levelSpread, defaultAttackSpeed, defaultRange, defaultRecoil;
     public NumericStatFormula defaultItemCapacity;
     public ReforgeOptions revisionOptions, gemRevisionOptions, phatLootsOptions;
     public final List<String> opStats = new ArrayList<>();
     public String itemTypeLoreTag, gemStoneLoreTag, defaultTierName;
     public List<Pattern> itemCommandWhitelist = List.of();
     private final Map<Material, Integer> defaultPickaxePower = new HashMap<>();
+    private final Set<ReforgeReason> disabledRevisionReasons = EnumSet.noneOf(ReforgeReason.class);
+
+    /*
+     * Read by event handlers. These are rebuilt and then
+     * swapped on reload, and never modified afterwards
+     */
+    private boolean[] disabledInteractions = new boolean[DisabledInteraction.values().length];
+    private Set<Material> blockBlacklist = EnumSet.noneOf(Material.class), disabledVanillaRecipes = EnumSet.noneOf(Material.class);
     // Auto-bind default level when item does not define SOULBOUND_LEVEL
     public int autoBindDefaultLevel;
 
@@ -184,8 +195,24 @@ public class ConfigManager implements Reloadable {
         disableConsumableBlockClicks = MMOItems.plugin.getConfig().getBoolean("consumables.disable_clicks_on_blocks");
         itemDurabilityLossCap = MMOItems.plugin.getConfig().getInt("durability.loss_cap");
         durabilityLossOnMmoDamage = MMOItems.plugin.getConfig().getBoolean("durability.mmo_damage_loss", true);
+        incrementalGemApply = MMOItems.plugin.getConfig().getBoolean("gem-sockets.incremental-apply", true);
+        incrementalTemplateReload = MMOItems.plugin.getConfig().getBoolean("template-reload.incremental", true);
+        templateParseThreads = MMOItems.plugin.getConfig().getInt("template-reload.parse-threads", 4);
+        templateSnapshotCache = MMOItems.plugin.getConfig().getBoolean("template-reload.snapshot-cache", true);
         itemGrantedPermissions = MMOItems.plugin.getConfig().getBoolean("enable_item_granted_permissions");
         itemCommands = MMOItems.plugin.getConfig().getBoolean("item_commands.enabled");
+        itemPermissions = MMOItems.plugin.getConfig().getBoolean("permissions.items");
+        lockedSkins = MMOItems.plugin.getConfig().getBoolean("locked-skins");
+        defaultAttackSpeed = MMOItems.plugin.getConfig().getDouble("default.attack-speed");
+        defaultRange = MMOItems.plugin.getConfig().getDouble("default.range");
+        defaultRecoil = MMOItems.plugin.getConfig().getDouble("default.recoil");
+
+        final boolean[] disabledInteractions = new boolean[DisabledInteraction.values().length];
+        for (DisabledInteraction interaction : DisabledInteraction.values())
+            disabledInteractions[interaction.ordinal()] = MMOItems.plugin.getConfig().getBoolean("disable-interactions." + interaction.getConfigKey());
+        this.disabledInteractions = disabledInteractions;
+        blockBlacklist = loadMaterials("block-blacklist");
+        disabledVanillaRecipes = loadMaterials("disable-vanilla-recipes");
 
         try {
             var patternList = new ArrayList<Pattern>();
@@ -220,6 +247,17 @@ public class ConfigManager implements Reloadable {
         gemRevisionOptions = gemKeepData != null ? new ReforgeOptions(gemKeepData) : new ReforgeOptions();
         phatLootsOptions = phatLoots != null ? new ReforgeOptions(phatLoots) : new ReforgeOptions();
 
+        disabledRevisionReasons.clear();
+        for (ReforgeReason reason : ReforgeReason.values())
+            if (MMOItems.plugin.getConfig().getBoolean("item-revision.disable-on." + reason.name().toLowerCase()))
+                disabledRevisionReasons.add(reason);
+        revisionUpdatesPerTick = Math.max(1, MMOItems.plugin.getConfig().getInt("item-revision.updates-per-tick", 2));
+        projectileParticleBudget = MMOItems.plugin.getConfig().getInt("projectile-particles.max-per-tick", 500);
+        projectileParticleViewDistance = MMOItems.plugin.getConfig().getDouble("projectile-particles.view-distance", 64);
+        biomeCheckPeriod = Math.max(1, MMOItems.plugin.getConfig().getInt("required-biomes.check-period", 20));
+        areaBreakBudget = perTickBudget(MMOItems.plugin.getConfig().getInt("tool-abilities.max-blocks-per-tick", 64));
+        deathDowngradesPerTick = perTickBudget(MMOItems.plugin.getConfig().getInt("death-downgrading.items-per-tick", 20));
+
         List<String> exemptedPhatLoots = MMOItems.plugin.getConfig().getStringList("item-revision.disable-phat-loot");
         for (String epl : exemptedPhatLoots)
             phatLootsOptions.addToBlacklist(epl);
@@ -244,6 +282,28 @@ public class ConfigManager implements Reloadable {
             }
     }
 
+    /**
+     * Budgets which would never let anything through are raised to 1.
+     *
+     * @param budget Amount of operations allowed every tick
+     * @return Clamped budget, or -1 if it is not limited
+     */
+    private static int perTickBudget(int budget) {
+        return budget < 0 ? -1 : Math.max(1, budget);
+    }
+
+    @NotNull
+    private Set<Material> loadMaterials(@NotNull String path) {
+        final Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (String key : MMOItems.plugin.getConfig().getStringList(path))
+            try {
+                materials.add(Material.valueOf(UtilityMethods.enumName(key)));
+            } catch (IllegalArgumentException exception) {
+                MMOItems.plugin.getLogger().log(Level.WARNING, String.format("Could not find material '%s' in '%s'", key, path));
+            }
+        return materials;
+    }
+
     public int getDefaultPickaxePower(@NotNull ItemStack item) {
         return defaultPickaxePower.getOrDefault(item.getType(), 0);
     }
@@ -260,12 +320,34 @@ public class ConfigManager implements Reloadable {
         return false;
     }
 
+    /**
+     * @param reason Action which could trigger an item update
+     * @return If item revision updates are disabled for that action
+     */
+    public boolean isRevisionDisabled(@NotNull ReforgeReason reason) {
+        return disabledRevisionReasons.contains(reason);
+    }
+
     /**
      * @return Can this block material be broken by tool mechanics
      *         like 'Bouncing Crack'
      */
     public boolean isBlacklisted(@NotNull Material material) {
-        return MMOItems.plugin.getConfig().getStringList("block-blacklist").contains(material.name());
+        return blockBlacklist.contains(material);
+    }
+
+    /**
+     * @return If vanilla recipes crafting this material are disabled
+     */
+    public boolean isVanillaRecipeDisabled(@NotNull Material material) {
+        return disabledVanillaRecipes.contains(material);
+    }
+
+    /**
+     * @return If this interaction is disabled for all MMOItems
+     */
+    public boolean isInteractionDisabled(@NotNull DisabledInteraction interaction) {
+        return disabledInteractions[interaction.ordinal()];
     }
 
     /**
@@ -11,6 +11,7 @@ import io.lumine.mythic.lib.util.configobject.ConfigSectionObject;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.ConfigFile;
 import net.Indyuce.mmoitems.api.crafting.ConditionalDisplay;
+import net.Indyuce.mmoitems.api.crafting.CraftingCompletionScheduler;
 import net.Indyuce.mmoitems.api.crafting.CraftingStation;
 import net.Indyuce.mmoitems.api.crafting.CraftingStationCommand;
 import net.Indyuce.mmoitems.api.crafting.LoadedCraftingObject;
@@ -25,10 +26,13 @@ import net.Indyuce.mmoitems.api.crafting.ingredient.inventory.VanillaPlayerIngre
 import net.Indyuce.mmoitems.api.crafting.output.MMOItemRecipeOutput;
 import net.Indyuce.mmoitems.api.crafting.output.RecipeOutput;
 import net.Indyuce.mmoitems.api.crafting.output.VanillaRecipeOutput;
+import net.Indyuce.mmoitems.api.crafting.storage.CraftingQueueStorage;
+import net.Indyuce.mmoitems.api.crafting.storage.SQLCraftingQueueStorage;
 import net.Indyuce.mmoitems.api.crafting.trigger.*;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Function;
@@ -49,6 +53,14 @@ public class CraftingManager implements Reloadable {
     private final Map<String, CraftingStation> stations = new HashMap<>();
     private final Map<String, CraftingStationCommand> stationCommands = new HashMap<>();
 
+    private final CraftingCompletionScheduler completionScheduler = new CraftingCompletionScheduler();
+
+    /**
+     * Null when crafting queues are saved in player YAML data files
+     */
+    @Nullable
+    private CraftingQueueStorage queueStorage;
+
     public CraftingManager() {
 
         // Conditions
@@ -122,6 +134,50 @@ public class CraftingManager implements Reloadable {
         reloadStationCommands();
     }
 
+    /**
+     * Sets up crafting queue storage and the completion scheduler. Must
+     * be called before player data starts loading.
+     */
+    public void setupQueueStorage() {
+        final ConfigurationSection config = MMOItems.plugin.getConfig().getConfigurationSection("database.crafting-queue");
+        if (config != null && config.getBoolean("enabled"))
+            try {
+                setQueueStorage(SQLCraftingQueueStorage.fromConfig(config));
+                MMOItems.plugin.getLogger().log(Level.INFO, "Crafting queues are now saved in MySQL");
+            } catch (RuntimeException exception) {
+                MMOItems.plugin.getLogger().log(Level.SEVERE, "Could not connect to crafting queue database, falling back to YAML: " + exception.getMessage());
+            }
+
+        if (MMOItems.plugin.getConfig().getBoolean("crafting-queue.notify-when-ready", true))
+            completionScheduler.start(Math.max(1, MMOItems.plugin.getConfig().getLong("crafting-queue.notify-period", 20)));
+    }
+
+    /**
+     * Crafting queue storages are used to persist crafting queues with
+     * row-level writes instead of saving them in player data files.
+     *
+     * @param queueStorage New storage, or null to save queues in player YAML data
+     */
+    public void setQueueStorage(@Nullable CraftingQueueStorage queueStorage) {
+        if (this.queueStorage != null) this.queueStorage.close();
+        this.queueStorage = queueStorage;
+    }
+
+    @Nullable
+    public CraftingQueueStorage getQueueStorage() {
+        return queueStorage;
+    }
+
+    @NotNull
+    public CraftingCompletionScheduler getCompletionScheduler() {
+        return completionScheduler;
+    }
+
+    public void closeQueueStorage() {
+        completionScheduler.stop();
+        setQueueStorage(null);
+    }
+
     public int countRecipes() {
         int t = 0;
         for (CraftingStation station : stations.values())
@@ -6,10 +6,12 @@ import net.Indyuce.mmoitems.util.MMOUtils;
 import net.Indyuce.mmoitems.api.ConfigFile;
 import net.Indyuce.mmoitems.api.block.CustomBlock;
 import net.Indyuce.mmoitems.api.droptable.DropTable;
+import net.Indyuce.mmoitems.api.droptable.item.DropItem;
 import net.Indyuce.mmoitems.api.event.ItemDropEvent;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -23,11 +25,17 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 public class DropTableManager implements Listener, Reloadable {
@@ -35,6 +43,17 @@ public class DropTableManager implements Listener, Reloadable {
 	private final Map<Material, DropTable> blocks = new HashMap<>();
 	private final Map<Integer, DropTable> customBlocks = new HashMap<>();
 
+	/**
+	 * When async generation is enabled, item stats are rolled by this
+	 * pool and item stacks are then created on the main thread, using
+	 * the task queue which is emptied every tick.
+	 */
+	@Nullable
+	private ExecutorService generationPool;
+	private final Queue<Runnable> mainThreadTasks = new ConcurrentLinkedQueue<>();
+	@Nullable
+	private BukkitTask mainThreadHandoff;
+
 	public DropTableManager() {
 		reload();
 	}
@@ -44,6 +63,23 @@ public class DropTableManager implements Listener, Reloadable {
 		blocks.clear();
 		customBlocks.clear();
 
+		// Async generation
+		close();
+		if (MMOItems.plugin.getConfig().getBoolean("drop-tables.async-generation.enabled")) {
+			final int threads = Math.max(1, MMOItems.plugin.getConfig().getInt("drop-tables.async-generation.threads", 2));
+			final AtomicInteger counter = new AtomicInteger();
+			generationPool = Executors.newFixedThreadPool(threads, runnable -> {
+				final Thread thread = new Thread(runnable, "MMOItems Drop Generation #" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			mainThreadHandoff = Bukkit.getScheduler().runTaskTimer(MMOItems.plugin, () -> {
+				Runnable task;
+				while ((task = mainThreadTasks.poll()) != null)
+					task.run();
+			}, 1, 1);
+		}
+
 		FileConfiguration config = new ConfigFile("drops").getConfig();
 		if (config.contains("monsters"))
 			for (String key : config.getConfigurationSection("monsters").getKeys(false))
@@ -76,6 +112,68 @@ public class DropTableManager implements Listener, Reloadable {
 				}
 	}
 
+	/**
+	 * Stops async drop generation. Items which are still
+	 * being generated are not dropped.
+	 */
+	public void close() {
+		if (generationPool != null) {
+			generationPool.shutdownNow();
+			generationPool = null;
+		}
+		if (mainThreadHandoff != null) {
+			mainThreadHandoff.cancel();
+			mainThreadHandoff = null;
+		}
+		mainThreadTasks.clear();
+	}
+
+	public boolean isAsyncGeneration() {
+		return generationPool != null;
+	}
+
+	/**
+	 * Reads a drop table, rolling item stats on the generation pool. Only
+	 * the item stacks are created on the main thread, during the next ticks.
+	 *
+	 * @param dropTable Drop table to read
+	 * @param player    Player the items are generated for
+	 * @param silkTouch If the block was broken using silk touch
+	 * @param callback  Called on the main thread with the generated items
+	 */
+	private void readAsync(@NotNull DropTable dropTable, @Nullable PlayerData player, boolean silkTouch, @NotNull Consumer<List<ItemStack>> callback) {
+		final ExecutorService pool = Objects.requireNonNull(generationPool, "Async generation is disabled");
+
+		// Everything that needs player data is rolled now
+		final List<DropItem> dropItems = dropTable.rollDrops(silkTouch);
+		final List<Supplier<Supplier<ItemStack>>> steps = new ArrayList<>();
+		for (DropItem dropItem : dropItems)
+			steps.add(dropItem.prepare(player, dropItem.rollAmount()));
+
+		pool.execute(() -> {
+			final List<Supplier<ItemStack>> generated = new ArrayList<>();
+			for (int i = 0; i < steps.size(); i++)
+				try {
+					generated.add(steps.get(i).get());
+				} catch (RuntimeException exception) {
+					MMOItems.plugin.getLogger().log(Level.WARNING, "Could not generate the subtable item " + dropItems.get(i).getKey(), exception);
+					generated.add(() -> null);
+				}
+
+			mainThreadTasks.add(() -> {
+				final List<ItemStack> drops = new ArrayList<>();
+				for (int i = 0; i < generated.size(); i++) {
+					final ItemStack drop = generated.get(i).get();
+					if (drop == null)
+						MMOItems.plugin.getLogger().log(Level.SEVERE, "Couldn't read the subtable item " + dropItems.get(i).getKey());
+					else
+						drops.add(drop);
+				}
+				callback.accept(drops);
+			});
+		});
+	}
+
 	@EventHandler
 	public void entityDrops(EntityDeathEvent event) {
 		LivingEntity entity = event.getEntity();
@@ -86,6 +184,21 @@ public class DropTableManager implements Listener, Reloadable {
 		DropTable dropTable = monsters.get(entity.getType());
 		if (dropTable == null) return;
 
+		// Items cannot be added to the event drops anymore
+		if (isAsyncGeneration()) {
+			final Location location = entity.getLocation();
+			readAsync(dropTable, killer != null ? PlayerData.get(killer) : null, false, drops -> {
+				ItemDropEvent called = new ItemDropEvent(killer, drops, entity);
+				Bukkit.getPluginManager().callEvent(called);
+				if (called.isCancelled())
+					return;
+
+				for (ItemStack drop : drops)
+					UtilityMethods.dropItemNaturally(location, drop);
+			});
+			return;
+		}
+
 		List<ItemStack> drops = dropTable.read(killer != null ? PlayerData.get(killer) : null, false);
 		ItemDropEvent called = new ItemDropEvent(killer, drops, entity);
 		Bukkit.getPluginManager().callEvent(called);
@@ -113,6 +226,17 @@ public class DropTableManager implements Listener, Reloadable {
 			 */
 			if (customBlocks.containsKey(customBlock.getId()) && MMOUtils.getPickaxePower(player) >= customBlock.getRequiredPower()) {
 				PlayerData playerData = PlayerData.get(player);
+				if (isAsyncGeneration()) {
+					readAsync(customBlocks.get(customBlock.getId()), playerData, hasSilkTouchTool(player), drops -> {
+						ItemDropEvent called = new ItemDropEvent(player, drops, customBlock);
+						Bukkit.getPluginManager().callEvent(called);
+						if (!called.isCancelled())
+							for (ItemStack drop : drops)
+								UtilityMethods.dropItemNaturally(block.getLocation(), drop);
+					});
+					return;
+				}
+
 				List<ItemStack> drops = customBlocks.get(customBlock.getId()).read(playerData, hasSilkTouchTool(player));
 				ItemDropEvent called = new ItemDropEvent(player, drops, customBlock);
 				Bukkit.getPluginManager().callEvent(called);
@@ -129,6 +253,17 @@ public class DropTableManager implements Listener, Reloadable {
 		// Normal block
 		else if (blocks.containsKey(block.getType())) {
 			Material type = block.getType();
+			if (isAsyncGeneration()) {
+				readAsync(blocks.get(type), PlayerData.get(player), hasSilkTouchTool(player), drops -> {
+					ItemDropEvent called = new ItemDropEvent(player, drops, block);
+					Bukkit.getPluginManager().callEvent(called);
+					if (!called.isCancelled())
+						for (ItemStack drop : drops)
+							UtilityMethods.dropItemNaturally(block.getLocation(), drop);
+				});
+				return;
+			}
+
 			List<ItemStack> drops = blocks.get(type).read(PlayerData.get(player), hasSilkTouchTool(player));
 			ItemDropEvent called = new ItemDropEvent(player, drops, block);
 			Bukkit.getPluginManager().callEvent(called);
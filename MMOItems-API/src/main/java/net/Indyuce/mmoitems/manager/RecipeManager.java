@@ -12,6 +12,7 @@ import io.lumine.mythic.lib.api.util.ui.SilentNumbers;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.Type;
 import net.Indyuce.mmoitems.api.crafting.MMOItemUIFilter;
+import net.Indyuce.mmoitems.api.event.TemplateReloadEvent;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
 import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
 import net.Indyuce.mmoitems.api.recipe.workbench.ingredients.AirIngredient;
@@ -31,10 +32,11 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.*;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.*;
 import java.util.logging.Level;
 
 /**
@@ -63,12 +65,27 @@ public class RecipeManager implements Reloadable {
     private final ArrayList<MythicRecipeBlueprint> booklessRecipes = new ArrayList<>();
 
     @NotNull
-    private final ArrayList<NamespacedKey> blacklistedFromAutomaticDiscovery = new ArrayList<>();
+    private final Set<NamespacedKey> blacklistedFromAutomaticDiscovery = new HashSet<>();
+
+    /**
+     * Players whose recipe book still has to be refreshed after a reload
+     */
+    private final Set<UUID> pendingBookRefreshes = new LinkedHashSet<>();
+    @Nullable
+    private BukkitTask bookRefreshTask;
+
+    /**
+     * Recipes registered by every template, so that only the recipes
+     * of reloaded templates are registered again after a reload
+     */
+    private final Map<MMOItemTemplate, TemplateRecipes> templateRecipes = new IdentityHashMap<>();
 
     private boolean book;
+    private int bookRefreshesPerTick;
 
     public void loadRecipes() {
         this.book = MMOItems.plugin.getConfig().getBoolean("recipes.use-recipe-book");
+        this.bookRefreshesPerTick = Math.max(1, MMOItems.plugin.getConfig().getInt("recipes.book-refreshes-per-tick", 20));
 
         // For logging
         FriendlyFeedbackProvider ffp = new FriendlyFeedbackProvider(FFPMMOItems.get());
@@ -81,73 +98,91 @@ public class RecipeManager implements Reloadable {
             FileConfiguration config = type.getConfigFile().getConfig();
 
             // For every template of those types
-            for (MMOItemTemplate template : MMOItems.plugin.getTemplates().getTemplates(type)) {
+            for (MMOItemTemplate template : MMOItems.plugin.getTemplates().getTemplates(type))
+                loadRecipes(config, template);
+        }
+
+        // Log relevant messages
+        ffp.sendTo(FriendlyFeedbackCategory.ERROR, MMOItems.getConsole());
+        ffp.sendTo(FriendlyFeedbackCategory.FAILURE, MMOItems.getConsole());
+
+        // Load legacy recipes onto Bukkit System
+        Bukkit.getScheduler().runTask(MMOItems.plugin, () -> getBukkitRecipes().forEach(Bukkit::addRecipe));
+    }
 
-                // Does it have a crafting recipe?
-                if (config.contains(template.getId() + ".base.crafting")) {
+    /**
+     * Registers the crafting recipes of one template, and remembers
+     * them so that they can be unregistered when the template is
+     * reloaded. Bukkit recipes still have to be added afterward.
+     *
+     * @param config   Config file of the template type
+     * @param template Template to register recipes of
+     */
+    private void loadRecipes(@NotNull FileConfiguration config, @NotNull MMOItemTemplate template) {
 
-                    // Get section containing the crafting recipes
-                    ConfigurationSection section = RecipeEditorGUI.getSection(config, template.getId() + ".base.crafting");
+        // Does it have a crafting recipe?
+        if (!config.contains(template.getId() + ".base.crafting"))
+            return;
 
-                    // All loaded recipes
-                    for (String recipeType : RecipeTypeListGUI.getRegisteredRecipes()) {
+        final int legacyIndex = loadedLegacyRecipes.size(), customIndex = customRecipes.size(), booklessIndex = booklessRecipes.size();
 
-                        // Is it in-yo?
-                        if (section.contains(recipeType)) {
+        // Get section containing the crafting recipes
+        ConfigurationSection section = RecipeEditorGUI.getSection(config, template.getId() + ".base.crafting");
 
-                            // Get Registry
-                            RecipeRegistry rr = RecipeTypeListGUI.getRegisteredRecipe(recipeType);
+        // All loaded recipes
+        for (String recipeType : RecipeTypeListGUI.getRegisteredRecipes()) {
 
-                            // Get recipe type section
-                            ConfigurationSection typeSection = RecipeEditorGUI.getSection(section, recipeType);
+            // Is it in-yo?
+            if (section.contains(recipeType)) {
 
-                            // Register dem
-                            for (String recipeName : typeSection.getKeys(false)) {
+                // Get Registry
+                RecipeRegistry rr = RecipeTypeListGUI.getRegisteredRecipe(recipeType);
 
-                                // Generate its key
-                                NamespacedKey nk = getRecipeKey(template.getType(), template.getId(), recipeType, recipeName);
+                // Get recipe type section
+                ConfigurationSection typeSection = RecipeEditorGUI.getSection(section, recipeType);
 
-                                // Wrap
-                                Ref<NamespacedKey> nkRef = new Ref<>(nk);
+                // Register dem
+                for (String recipeName : typeSection.getKeys(false)) {
 
-                                // Error yes
-                                FriendlyFeedbackProvider ffpMinor = new FriendlyFeedbackProvider(FFPMMOItems.get());
-                                ffpMinor.activatePrefix(true, "Recipe of $u" + template.getType() + " " + template.getId());
+                    // Generate its key
+                    NamespacedKey nk = getRecipeKey(template.getType(), template.getId(), recipeType, recipeName);
 
-                                // Send to mythiclib
-                                try {
+                    // Wrap
+                    Ref<NamespacedKey> nkRef = new Ref<>(nk);
 
-                                    // The result of sending to MythicLib
-                                    MythicRecipeBlueprint blueprint = rr.sendToMythicLib(template, typeSection, recipeName, nkRef, ffpMinor);
-                                    (nkRef.getValue() != null ? customRecipes : booklessRecipes).add(blueprint);
+                    // Error yes
+                    FriendlyFeedbackProvider ffpMinor = new FriendlyFeedbackProvider(FFPMMOItems.get());
+                    ffpMinor.activatePrefix(true, "Recipe of $u" + template.getType() + " " + template.getId());
 
-                                    // Well something went wrong...
-                                } catch (IllegalArgumentException error) {
+                    // Send to mythiclib
+                    try {
 
-                                    // Empty message? Snooze that
-                                    if (!error.getMessage().isEmpty()) {
+                        // The result of sending to MythicLib
+                        MythicRecipeBlueprint blueprint = rr.sendToMythicLib(template, typeSection, recipeName, nkRef, ffpMinor);
+                        (nkRef.getValue() != null ? customRecipes : booklessRecipes).add(blueprint);
 
-                                        // Log error
-                                        MMOItems.print(null, "Cannot register custom recipe '$u{2}$b' for $e{0} {1}$b;$f {3}", "Custom Crafting", type.getId(), template.getId(), recipeName, error.getMessage());
+                        // Well something went wrong...
+                    } catch (IllegalArgumentException error) {
 
-                                        // Include failures in the report
-                                        ffpMinor.sendTo(FriendlyFeedbackCategory.ERROR, MMOItems.getConsole());
-                                        ffpMinor.sendTo(FriendlyFeedbackCategory.FAILURE, MMOItems.getConsole());
-                                    }
-                                }
-                            }
+                        // Empty message? Snooze that
+                        if (!error.getMessage().isEmpty()) {
+
+                            // Log error
+                            MMOItems.print(null, "Cannot register custom recipe '$u{2}$b' for $e{0} {1}$b;$f {3}", "Custom Crafting", template.getType().getId(), template.getId(), recipeName, error.getMessage());
+
+                            // Include failures in the report
+                            ffpMinor.sendTo(FriendlyFeedbackCategory.ERROR, MMOItems.getConsole());
+                            ffpMinor.sendTo(FriendlyFeedbackCategory.FAILURE, MMOItems.getConsole());
                         }
                     }
                 }
             }
         }
 
-        // Log relevant messages
-        ffp.sendTo(FriendlyFeedbackCategory.ERROR, MMOItems.getConsole());
-        ffp.sendTo(FriendlyFeedbackCategory.FAILURE, MMOItems.getConsole());
-
-        // Load legacy recipes onto Bukkit System
-        Bukkit.getScheduler().runTask(MMOItems.plugin, () -> getBukkitRecipes().forEach(Bukkit::addRecipe));
+        templateRecipes.put(template, new TemplateRecipes(
+                new ArrayList<>(loadedLegacyRecipes.subList(legacyIndex, loadedLegacyRecipes.size())),
+                new ArrayList<>(customRecipes.subList(customIndex, customRecipes.size())),
+                new ArrayList<>(booklessRecipes.subList(booklessIndex, booklessRecipes.size()))));
     }
 
     @Deprecated
@@ -185,6 +220,8 @@ public class RecipeManager implements Reloadable {
 
     @Nullable
     private ArrayList<NamespacedKey> generatedNamespacedKeys;
+    @Nullable
+    private Set<NamespacedKey> namespacedKeySet, discoverableKeys;
 
     public ArrayList<NamespacedKey> getNamespacedKeys() {
         if (generatedNamespacedKeys != null)
@@ -198,6 +235,28 @@ public class RecipeManager implements Reloadable {
         return generatedNamespacedKeys;
     }
 
+    /**
+     * @return Same keys as {@link #getNamespacedKeys()}, for fast lookups
+     */
+    @NotNull
+    private Set<NamespacedKey> getNamespacedKeySet() {
+        if (namespacedKeySet == null) namespacedKeySet = new HashSet<>(getNamespacedKeys());
+        return namespacedKeySet;
+    }
+
+    /**
+     * @return Keys of recipes automatically discovered by players
+     */
+    @NotNull
+    private Set<NamespacedKey> getDiscoverableKeys() {
+        if (discoverableKeys != null) return discoverableKeys;
+
+        discoverableKeys = new LinkedHashSet<>();
+        for (NamespacedKey key : getNamespacedKeys())
+            if (key != null && !blacklistedFromAutomaticDiscovery.contains(key)) discoverableKeys.add(key);
+        return discoverableKeys;
+    }
+
     @NotNull
     public NamespacedKey getRecipeKey(@NotNull Type type, @NotNull String id, @NotNull String recipeType, @NotNull String number) {
         return new NamespacedKey(MMOItems.plugin, recipeType + "_" + type.getId() + "_" + id + "_" + number);
@@ -239,18 +298,113 @@ public class RecipeManager implements Reloadable {
             for (MythicRecipeBlueprint b : booklessRecipes)
                 b.disable();
             booklessRecipes.clear();
+            templateRecipes.clear();
 
             // Load all recipes
             generatedNamespacedKeys = null;
+            namespacedKeySet = null;
+            discoverableKeys = null;
             loadRecipes();
 
             // Refresh book for online players
             if (book)
                 for (Player player : Bukkit.getOnlinePlayers())
-                    refreshRecipeBook(player);
+                    queueRecipeBookRefresh(player);
+        });
+    }
+
+    /**
+     * Only unregisters the recipes of templates which were removed, and
+     * registers the recipes of templates which were loaded again, instead
+     * of reloading every recipe.
+     *
+     * @param event Templates which were reloaded
+     */
+    public void update(@NotNull TemplateReloadEvent event) {
+        if (event.isFullReload()) {
+            reload();
+            return;
+        }
+
+        final Collection<MMOItemTemplate> removed = new ArrayList<>(event.getRemoved()), loaded = new ArrayList<>(event.getLoaded());
+        Bukkit.getScheduler().runTask(MMOItems.plugin, () -> {
+
+            // Unregister recipes of removed templates
+            final Set<Object> unregistered = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (MMOItemTemplate template : removed) {
+                final TemplateRecipes recipes = templateRecipes.remove(template);
+                if (recipes == null) continue;
+
+                for (Recipe recipe : recipes.legacy) {
+                    final NamespacedKey key = ((Keyed) recipe).getKey();
+                    try {
+                        Bukkit.removeRecipe(key);
+                    } catch (Throwable throwable) {
+                        MMOItems.plugin.getLogger().log(Level.SEVERE, "Could not unregister recipe '" + key + "': " + throwable.getMessage());
+                    }
+                    blacklistedFromAutomaticDiscovery.remove(key);
+                    unregistered.add(recipe);
+                }
+
+                for (MythicRecipeBlueprint blueprint : recipes.custom)
+                    try {
+                        blueprint.disable();
+                        Bukkit.removeRecipe(blueprint.getNk());
+                    } catch (Throwable throwable) {
+                        MMOItems.plugin.getLogger().log(Level.SEVERE, "Could not unregister knowledge book recipe '" + blueprint.getNk() + "': " + throwable.getMessage());
+                    }
+                for (MythicRecipeBlueprint blueprint : recipes.bookless)
+                    blueprint.disable();
+
+                unregistered.addAll(recipes.custom);
+                unregistered.addAll(recipes.bookless);
+            }
+            loadedLegacyRecipes.removeIf(unregistered::contains);
+            customRecipes.removeIf(unregistered::contains);
+            booklessRecipes.removeIf(unregistered::contains);
+
+            // Register recipes of loaded templates
+            final int legacyIndex = loadedLegacyRecipes.size();
+            final Map<Type, FileConfiguration> configs = new HashMap<>();
+            for (MMOItemTemplate template : loaded)
+                loadRecipes(configs.computeIfAbsent(template.getType(), type -> type.getConfigFile().getConfig()), template);
+            for (Recipe recipe : loadedLegacyRecipes.subList(legacyIndex, loadedLegacyRecipes.size()))
+                Bukkit.addRecipe(recipe);
+
+            generatedNamespacedKeys = null;
+            namespacedKeySet = null;
+            discoverableKeys = null;
+
+            // Refresh book for online players
+            if (book)
+                for (Player player : Bukkit.getOnlinePlayers())
+                    queueRecipeBookRefresh(player);
         });
     }
 
+    /**
+     * Refreshing the recipe book of every online player at once can
+     * send a lot of packets, so players are refreshed a few at a time
+     * every tick instead.
+     */
+    public void queueRecipeBookRefresh(@NotNull Player player) {
+        if (!pendingBookRefreshes.add(player.getUniqueId())) return;
+
+        if (bookRefreshTask == null) bookRefreshTask = Bukkit.getScheduler().runTaskTimer(MMOItems.plugin, () -> {
+            final Iterator<UUID> iterator = pendingBookRefreshes.iterator();
+            for (int i = 0; i < bookRefreshesPerTick && iterator.hasNext(); i++) {
+                final Player online = Bukkit.getPlayer(iterator.next());
+                iterator.remove();
+                if (online != null) refreshRecipeBook(online);
+            }
+
+            if (pendingBookRefreshes.isEmpty()) {
+                bookRefreshTask.cancel();
+                bookRefreshTask = null;
+            }
+        }, 1, 1);
+    }
+
     /**
      * TODO For some reason, we have to refresh the book every time
      * the player joins the server or something; the thing is
@@ -264,75 +418,56 @@ public class RecipeManager implements Reloadable {
 
         // Book disabled? Hide all recipes
         if (!book) {
+            final List<NamespacedKey> undiscovered = new ArrayList<>();
             for (NamespacedKey key : player.getDiscoveredRecipes())
-                if ("mmoitems".equals(key.getNamespace()))
-                    player.undiscoverRecipe(key);
+                if ("mmoitems".equals(key.getNamespace())) undiscovered.add(key);
+            if (!undiscovered.isEmpty()) player.undiscoverRecipes(undiscovered);
 
             return;
         }
 
-        if (MythicLib.plugin.getVersion().isStrictlyHigher(1, 16)) {
+        final Set<NamespacedKey> discoverable = getDiscoverableKeys();
 
-            // Undiscovers the recipes apparently
-            for (NamespacedKey key : player.getDiscoveredRecipes())
-                if ("mmoitems".equals(key.getNamespace()) && !getNamespacedKeys().contains(key))
-                    player.undiscoverRecipe(key);
-
-            // And discovers them again
-            for (NamespacedKey recipe : getNamespacedKeys()) {
-                if (recipe == null)
-                    continue;
-
-                // Not blacklisted right
-                boolean blacklisted = false;
-                for (NamespacedKey black : blacklistedFromAutomaticDiscovery) {
+        if (MythicLib.plugin.getVersion().isStrictlyHigher(1, 16)) {
+            final Set<NamespacedKey> discovered = player.getDiscoveredRecipes();
 
-                    if (recipe.equals(black)) {
-                        blacklisted = true;
-                        break;
-                    }
-                }
-                if (blacklisted) {
-                    continue;
-                }
+            // Undiscovers recipes which no longer exist
+            final Set<NamespacedKey> keys = getNamespacedKeySet();
+            final List<NamespacedKey> undiscovered = new ArrayList<>();
+            for (NamespacedKey key : discovered)
+                if ("mmoitems".equals(key.getNamespace()) && !keys.contains(key)) undiscovered.add(key);
+            if (!undiscovered.isEmpty()) player.undiscoverRecipes(undiscovered);
 
-                try {
-                    if (!player.hasDiscoveredRecipe(recipe)) {
-                        player.discoverRecipe(recipe);
-                    }
-                } catch (Throwable e) {
-                    MMOItems.print(null, "Could not register crafting book recipe for $r{0}$b:$f {1}", "MMOItems Custom Crafting", recipe.getKey(), e.getMessage());
-                }
-            }
+            // And discovers missing ones
+            final List<NamespacedKey> missing = new ArrayList<>();
+            for (NamespacedKey recipe : discoverable)
+                if (!discovered.contains(recipe)) missing.add(recipe);
+            discoverRecipes(player, missing);
 
             // Done woah
             return;
         }
 
         // Discovers all recipes
-        for (NamespacedKey recipe : getNamespacedKeys()) {
-            if (recipe == null) {
-                continue;
-            }
+        discoverRecipes(player, discoverable);
+    }
 
-            // Not blacklisted aight
-            boolean blacklisted = false;
-            for (NamespacedKey black : blacklistedFromAutomaticDiscovery) {
+    /**
+     * Discovers recipes with one single packet. If that fails,
+     * recipes are discovered one by one to find the faulty ones.
+     */
+    private void discoverRecipes(@NotNull Player player, @NotNull Collection<NamespacedKey> recipes) {
+        if (recipes.isEmpty()) return;
 
-                if (recipe.equals(black)) {
-                    blacklisted = true;
-                    break;
+        try {
+            player.discoverRecipes(recipes);
+        } catch (Throwable throwable) {
+            for (NamespacedKey recipe : recipes)
+                try {
+                    player.discoverRecipe(recipe);
+                } catch (Throwable e) {
+                    MMOItems.print(null, "Could not register crafting book recipe for $r{0}$b:$f {1}", "MMOItems Custom Crafting", recipe.getKey(), e.getMessage());
                 }
-            }
-            if (blacklisted) {
-                continue;
-            }
-
-            try {
-                player.discoverRecipe(recipe);
-            } catch (Throwable e) {
-                MMOItems.print(null, "Could not register crafting book recipe for $r{0}$b:$f {1}", "MMOItems Custom Crafting", recipe.getKey(), e.getMessage());
-            }
         }
     }
 
@@ -412,6 +547,20 @@ public class RecipeManager implements Reloadable {
         }
     }
 
+    /**
+     * Recipes registered by one template
+     */
+    private static class TemplateRecipes {
+        private final List<Recipe> legacy;
+        private final List<MythicRecipeBlueprint> custom, bookless;
+
+        TemplateRecipes(List<Recipe> legacy, List<MythicRecipeBlueprint> custom, List<MythicRecipeBlueprint> bookless) {
+            this.legacy = legacy;
+            this.custom = custom;
+            this.bookless = bookless;
+        }
+    }
+
     @FunctionalInterface
     public interface RecipeProvider {
         CookingRecipe<?> provide(NamespacedKey key, ItemStack result, RecipeChoice source, float experience, int cookTime);
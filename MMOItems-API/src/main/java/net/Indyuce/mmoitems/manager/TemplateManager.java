@@ -3,22 +3,39 @@ package net.Indyuce.mmoitems.manager;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import io.lumine.mythic.lib.api.util.ui.FriendlyFeedbackCategory;
 import io.lumine.mythic.lib.api.util.ui.FriendlyFeedbackProvider;
-import io.lumine.mythic.lib.util.FileUtils;
 import io.lumine.mythic.lib.util.lang3.Validate;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.ConfigFile;
 import net.Indyuce.mmoitems.api.ItemTier;
 import net.Indyuce.mmoitems.api.Type;
+import net.Indyuce.mmoitems.api.event.TemplateReloadEvent;
 import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
 import net.Indyuce.mmoitems.api.item.template.ModifierNode;
+import net.Indyuce.mmoitems.api.item.template.explorer.TemplateIndex;
 import net.Indyuce.mmoitems.api.util.TemplateMap;
 import net.Indyuce.mmoitems.api.util.message.FFPMMOItems;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 public class TemplateManager implements Reloadable {
 
@@ -26,6 +43,7 @@ public class TemplateManager implements Reloadable {
      * Registered MMOItems templates
      */
     private final TemplateMap<MMOItemTemplate> templates = new TemplateMap<>();
+    private final TemplateIndex index = new TemplateIndex();
 
     /**
      * Bank of item modifiers which can be used anywhere in
@@ -33,6 +51,33 @@ public class TemplateManager implements Reloadable {
      */
     private final Map<String, ModifierNode> modifierNodes = new HashMap<>();
 
+    /*
+     * Used for incremental reloads. Checksums of the item and modifier
+     * config files are kept so that only files which changed since the
+     * last reload are parsed again. Templates and public modifier nodes
+     * also remember which public nodes they reference, so that editing
+     * a modifier only reloads the objects depending on it.
+     */
+    private final Map<String, Long> fileChecksums = new HashMap<>();
+    private final Map<String, List<String>> modifierFiles = new HashMap<>();
+    private final Map<String, String> modifierSources = new HashMap<>();
+    private final Map<String, Set<String>> modifierReferences = new HashMap<>();
+    private final Map<String, List<MMOItemTemplate>> templateFiles = new HashMap<>();
+    private final Map<MMOItemTemplate, Set<String>> templateReferences = new HashMap<>();
+    private long sharedChecksum;
+
+    /**
+     * Collects the IDs of public modifier nodes looked up
+     * while some template or modifier node is being loaded
+     */
+    private static final ThreadLocal<Set<String>> REFERENCE_COLLECTOR = new ThreadLocal<>();
+
+    /**
+     * Config files which template data may depend on. When any
+     * of them changes, all templates are reloaded.
+     */
+    private static final String[] SHARED_FILES = {"item-types.yml", "item-tiers.yml", "item-sets.yml", "upgrade-templates.yml", "custom-stats.yml"};
+
     private static final Random RANDOM = new Random();
 
     /**
@@ -122,7 +167,11 @@ public class TemplateManager implements Reloadable {
     public void registerTemplate(@NotNull MMOItemTemplate template) {
         Validate.notNull(template, "MMOItem template cannot be null");
 
+        final MMOItemTemplate previous = templates.getValue(template.getType(), template.getId());
+        if (previous != null) index.unregister(previous);
+
         templates.setValue(template.getType(), template.getId(), template);
+        index.register(template);
     }
 
     /**
@@ -134,6 +183,9 @@ public class TemplateManager implements Reloadable {
      * @param id   The item ID
      */
     public void unregisterTemplate(@NotNull Type type, @NotNull String id) {
+        final MMOItemTemplate previous = templates.getValue(type, id);
+        if (previous != null) index.unregister(previous);
+
         templates.removeValue(type, id);
     }
 
@@ -145,11 +197,15 @@ public class TemplateManager implements Reloadable {
      * @param id   The item ID
      */
     public void deleteTemplate(@NotNull Type type, @NotNull String id) {
+        final MMOItemTemplate previous = getTemplate(type, id);
         unregisterTemplate(type, id);
 
         ConfigFile config = type.getConfigFile();
         config.getConfig().set(id, null);
         config.save();
+
+        if (previous != null)
+            Bukkit.getPluginManager().callEvent(new TemplateReloadEvent(List.of(), List.of(previous), false));
     }
 
     /**
@@ -165,21 +221,41 @@ public class TemplateManager implements Reloadable {
      */
     @SuppressWarnings("UnusedReturnValue")
     public MMOItemTemplate requestTemplateUpdate(@NotNull Type type, @NotNull String id) {
-        templates.removeValue(type, id);
+        final MMOItemTemplate previous = getTemplate(type, id);
+        if (previous != null) templateReferences.remove(previous);
+        unregisterTemplate(type, id);
 
         try {
             MMOItemTemplate template = new MMOItemTemplate(type, type.getConfigFile().getConfig().getConfigurationSection(id));
-            template.getPostLoadAction().performAction();
+            postloadTemplate(template);
             registerTemplate(template);
+
+            // Keep track of the new template for incremental reloads
+            final List<MMOItemTemplate> fileTemplates = templateFiles.computeIfAbsent(getTemplateFile(type), unused -> new ArrayList<>());
+            fileTemplates.removeIf(existing -> existing.getType().equals(type) && existing.getId().equals(template.getId()));
+            fileTemplates.add(template);
+
+            Bukkit.getPluginManager().callEvent(new TemplateReloadEvent(List.of(template), previous == null ? List.of() : List.of(previous), false));
             return template;
 
         } catch (IllegalArgumentException exception) {
             MMOItems.plugin.getLogger().log(Level.SEVERE,
                     "An error occurred while trying to reload item gen template '" + id + "': " + exception.getMessage());
+            if (previous != null)
+                Bukkit.getPluginManager().callEvent(new TemplateReloadEvent(List.of(), List.of(previous), false));
             return null;
         }
     }
 
+    /**
+     * @return Index of registered templates, used to generate random loot
+     * @see net.Indyuce.mmoitems.api.item.template.explorer.TemplateExplorer
+     */
+    @NotNull
+    public TemplateIndex getIndex() {
+        return index;
+    }
+
     /**
      * @return Collects all existing MMOItems templates into a set
      *         so that it can be filtered afterward to generate random loot
@@ -210,6 +286,8 @@ public class TemplateManager implements Reloadable {
 
     @Nullable
     public ModifierNode getModifierNode(@NotNull String id) {
+        final Set<String> references = REFERENCE_COLLECTOR.get();
+        if (references != null) references.add(id);
         return modifierNodes.get(id);
     }
 
@@ -220,17 +298,7 @@ public class TemplateManager implements Reloadable {
 
     @Nullable
     public ItemTier rollTier() {
-
-        double s = 0;
-        for (ItemTier tier : MMOItems.plugin.getTiers().getAll()) {
-            if (s >= 1 || RANDOM.nextDouble() < tier.getGenerationChance() / (1 - s))
-                return tier;
-
-            s += tier.getGenerationChance();
-        }
-
-        // Default tier
-        return null;
+        return MMOItems.plugin.getTiers().rollTier();
     }
 
     /**
@@ -272,29 +340,37 @@ public class TemplateManager implements Reloadable {
      */
     public void preloadObjects() {
         FriendlyFeedbackProvider ffp = new FriendlyFeedbackProvider(FFPMMOItems.get());
+        final long start = System.nanoTime();
+
+        // Parse all files at once
+        final List<String> modifierFiles = listModifierFiles();
+        final Map<String, Type> files = new LinkedHashMap<>();
+        modifierFiles.forEach(file -> files.put(file, null));
+        MMOItems.plugin.getTypes().getAll().forEach(type -> files.put(getTemplateFile(type), type));
+        final TemplateSnapshot snapshot = MMOItems.plugin.getLanguage().templateSnapshotCache ? TemplateSnapshot.read() : null;
+        final Map<String, ParsedFile> parsed = parseFiles(files, snapshot);
+        if (snapshot != null) snapshot.write(files.keySet());
+        final long parsing = System.nanoTime();
+        final long cached = parsed.values().stream().filter(file -> file.fromSnapshot).count();
 
         ffp.activatePrefix(true, "Template Modifiers");
         ffp.log(FriendlyFeedbackCategory.INFORMATION, "Preloading template modifiers, please wait..");
-
-        FileUtils.loadObjectsFromFolder(MMOItems.plugin, "modifiers", false, (key, config) -> {
-            final ModifierNode node = ModifierNode.fromConfig(key, config);
-            modifierNodes.put(node.getId(), node);
-        }, "Could not load modifier '%s' from file '%s': %s");
+        for (String file : modifierFiles)
+            loadModifierFile(file, parsed.get(file), null);
+        final long modifiers = System.nanoTime();
 
         ffp.activatePrefix(true, "Item Templates");
         ffp.log(FriendlyFeedbackCategory.INFORMATION, "Preloading item templates, please wait..");
-        for (Type type : MMOItems.plugin.getTypes().getAll()) {
-            FileConfiguration config = type.getConfigFile().getConfig();
-            for (String key : config.getKeys(false))
-                try {
-                    registerTemplate(new MMOItemTemplate(type, config.getConfigurationSection(key)));
-                } catch (IllegalArgumentException exception) {
-                    ffp.log(FriendlyFeedbackCategory.ERROR, "Could not preload item template '{0}': {1}", key, exception.getMessage());
-                }
-        }
+        for (Type type : MMOItems.plugin.getTypes().getAll())
+            loadTemplateFile(type, parsed.get(getTemplateFile(type)), null, ffp);
+        final long registering = System.nanoTime();
+
+        sharedChecksum = getSharedChecksum();
 
         // Print all failures
         ffp.sendAllTo(MMOItems.getConsole());
+        MMOItems.plugin.getLogger().log(Level.INFO, String.format("Preloaded %d modifiers and %d templates from %d files (%d cached) in %d ms (parsing: %d ms, modifiers: %d ms, templates: %d ms)",
+                modifierNodes.size(), templates.collectValues().size(), files.size(), cached, millis(start, registering), millis(start, parsing), millis(parsing, modifiers), millis(modifiers, registering)));
     }
 
     /**
@@ -302,42 +378,447 @@ public class TemplateManager implements Reloadable {
      */
     public void postloadObjects() {
         FriendlyFeedbackProvider ffp = new FriendlyFeedbackProvider(FFPMMOItems.get());
+        final long start = System.nanoTime();
 
         ffp.activatePrefix(true, "Template Modifiers");
         ffp.log(FriendlyFeedbackCategory.INFORMATION, "Loading template modifiers, please wait..");
         for (ModifierNode node : modifierNodes.values())
-            try {
-                node.getPostLoadAction().performAction();
-            } catch (Exception exception) {
-                ffp.log(FriendlyFeedbackCategory.INFORMATION, "Could not post-load template modifier '{0}': {1}", node.getId(), exception.getMessage());
-            }
+            postloadModifierNode(node, ffp);
+
+        final long modifiers = System.nanoTime();
 
         ffp.activatePrefix(true, "Item Templates");
         ffp.log(FriendlyFeedbackCategory.INFORMATION, "Loading item templates, please wait...");
         templates.forEach(template -> {
             try {
-                template.getPostLoadAction().performAction();
+                postloadTemplate(template);
             } catch (Exception exception) {
                 ffp.activatePrefix(true, "Item Templates \u00a78($r" + template.getType().getId() + "\u00a78)");
                 ffp.log(FriendlyFeedbackCategory.INFORMATION, "Could not post-load item template '" + template.getId() + "': " + exception.getMessage());
             }
         });
+        final long end = System.nanoTime();
 
         // Print all failures
         ffp.sendAllTo(MMOItems.getConsole());
+        MMOItems.plugin.getLogger().log(Level.INFO, String.format("Post-loaded modifiers and templates in %d ms (modifiers: %d ms, templates: %d ms)",
+                millis(start, end), millis(start, modifiers), millis(modifiers, end)));
     }
 
     /**
      * Reloads the item templates. This is the method used to reload the manager
-     * when the server is already running. It clears all the maps and loads
-     * everything again. Template references in other plugins like MMOCore must
-     * be refreshed afterwards.
+     * when the server is already running. Only config files which changed since
+     * the last reload are loaded again, along with the templates and modifiers
+     * depending on modifiers from these files. Everything is loaded again if
+     * incremental reloads are disabled or if a file like item-types.yml changed.
+     * Template references in other plugins like MMOCore must be refreshed
+     * afterwards.
+     *
+     * @see TemplateReloadEvent
      */
     public void reload() {
+        if (!MMOItems.plugin.getLanguage().incrementalTemplateReload || sharedChecksum != getSharedChecksum()) {
+            fullReload();
+            return;
+        }
+
+        FriendlyFeedbackProvider ffp = new FriendlyFeedbackProvider(FFPMMOItems.get());
+        ffp.activatePrefix(true, "Item Templates");
+        final long start = System.nanoTime();
+
+        // Find changed modifier files
+        final List<String> currentModifierFiles = listModifierFiles();
+        final Set<String> changedModifierFiles = new LinkedHashSet<>();
+        for (String file : currentModifierFiles)
+            if (hasChanged(file)) changedModifierFiles.add(file);
+        for (String file : modifierFiles.keySet())
+            if (!currentModifierFiles.contains(file)) changedModifierFiles.add(file);
+
+        // Nodes from changed files and, recursively, nodes referencing them
+        final Set<String> dirtyNodes = new HashSet<>();
+        final Map<String, Type> changedFiles = new LinkedHashMap<>();
+        for (String file : changedModifierFiles) {
+            final List<String> previousNodes = modifierFiles.remove(file);
+            if (previousNodes != null) dirtyNodes.addAll(previousNodes);
+
+            if (currentModifierFiles.contains(file)) changedFiles.put(file, null);
+            else fileChecksums.remove(file);
+        }
+        final Map<String, ParsedFile> modifierConfigs = parseFiles(changedFiles, null);
+        modifierConfigs.values().forEach(parsed -> dirtyNodes.addAll(parsed.config.getKeys(false)));
+        boolean grown = !dirtyNodes.isEmpty();
+        while (grown) {
+            grown = false;
+            for (Map.Entry<String, Set<String>> entry : modifierReferences.entrySet())
+                if (!dirtyNodes.contains(entry.getKey()) && !Collections.disjoint(entry.getValue(), dirtyNodes))
+                    grown |= dirtyNodes.add(entry.getKey());
+        }
+
+        // Reload dirty modifier nodes, following file order
+        final Map<String, Set<String>> dependentNodes = new HashMap<>();
+        for (String id : dirtyNodes) {
+            final String file = modifierSources.remove(id);
+            if (file != null && !changedModifierFiles.contains(file))
+                dependentNodes.computeIfAbsent(file, unused -> new HashSet<>()).add(id);
+            modifierNodes.remove(id);
+            modifierReferences.remove(id);
+        }
+        final Map<String, Type> dependentFiles = new LinkedHashMap<>();
+        dependentNodes.keySet().forEach(file -> dependentFiles.put(file, null));
+        modifierConfigs.putAll(parseFiles(dependentFiles, null));
+        final Set<String> loadedNodes = new HashSet<>();
+        for (String file : currentModifierFiles)
+            if (modifierConfigs.containsKey(file))
+                loadedNodes.addAll(loadModifierFile(file, modifierConfigs.get(file), dependentNodes.get(file)));
+        for (String id : loadedNodes) {
+            final ModifierNode node = modifierNodes.get(id);
+            if (node != null) postloadModifierNode(node, ffp);
+        }
+
+        // Find templates to reload
+        final Set<String> currentTemplateFiles = new LinkedHashSet<>();
+        final Map<String, Set<String>> dependentTemplates = new HashMap<>();
+        for (Type type : MMOItems.plugin.getTypes().getAll())
+            currentTemplateFiles.add(getTemplateFile(type));
+        templateReferences.forEach((template, references) -> {
+            if (!Collections.disjoint(references, dirtyNodes))
+                dependentTemplates.computeIfAbsent(getTemplateFile(template.getType()), unused -> new HashSet<>()).add(template.getId());
+        });
+
+        // Unregister outdated templates
+        final Set<MMOItemTemplate> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> changedTemplateFiles = new HashSet<>();
+        for (Iterator<Map.Entry<String, List<MMOItemTemplate>>> iterator = templateFiles.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, List<MMOItemTemplate>> entry = iterator.next();
+            final String file = entry.getKey();
+            final boolean changed = !currentTemplateFiles.contains(file) || hasChanged(file);
+            final Set<String> dependents = dependentTemplates.get(file);
+
+            for (Iterator<MMOItemTemplate> templateIterator = entry.getValue().iterator(); templateIterator.hasNext(); ) {
+                final MMOItemTemplate template = templateIterator.next();
+                if (changed || dependents != null && dependents.contains(template.getId())) {
+                    templateIterator.remove();
+                    removed.add(template);
+                }
+            }
+
+            if (changed) {
+                changedTemplateFiles.add(file);
+                fileChecksums.remove(file);
+                iterator.remove();
+            }
+        }
+        for (String file : currentTemplateFiles)
+            if (!templateFiles.containsKey(file)) changedTemplateFiles.add(file);
+
+        // Templates registered by other plugins are lost on reload
+        final Set<MMOItemTemplate> tracked = Collections.newSetFromMap(new IdentityHashMap<>());
+        templateFiles.values().forEach(tracked::addAll);
+        for (MMOItemTemplate template : templates.collectValues())
+            if (!tracked.contains(template)) removed.add(template);
+
+        for (MMOItemTemplate template : removed) {
+            if (getTemplate(template.getType(), template.getId()) == template)
+                unregisterTemplate(template.getType(), template.getId());
+            templateReferences.remove(template);
+        }
+
+        // Load new templates
+        final Map<String, Type> templateFilesToParse = new LinkedHashMap<>();
+        for (Type type : MMOItems.plugin.getTypes().getAll()) {
+            final String file = getTemplateFile(type);
+            if (changedTemplateFiles.contains(file) || dependentTemplates.containsKey(file))
+                templateFilesToParse.put(file, type);
+        }
+        final Map<String, ParsedFile> parsedTemplates = parseFiles(templateFilesToParse, null);
+        final List<MMOItemTemplate> loaded = new ArrayList<>();
+        templateFilesToParse.forEach((file, type) -> loaded.addAll(loadTemplateFile(type, parsedTemplates.get(file),
+                changedTemplateFiles.contains(file) ? null : dependentTemplates.get(file), ffp)));
+        for (MMOItemTemplate template : loaded)
+            try {
+                postloadTemplate(template);
+            } catch (Exception exception) {
+                ffp.activatePrefix(true, "Item Templates \u00a78($r" + template.getType().getId() + "\u00a78)");
+                ffp.log(FriendlyFeedbackCategory.INFORMATION, "Could not post-load item template '" + template.getId() + "': " + exception.getMessage());
+            }
+
+        ffp.activatePrefix(true, "Item Templates");
+        ffp.log(FriendlyFeedbackCategory.INFORMATION, "Reloaded {0} modifiers and {1} templates from {2} changed files in {3} ms",
+                String.valueOf(loadedNodes.size()), String.valueOf(loaded.size()), String.valueOf(changedModifierFiles.size() + changedTemplateFiles.size()),
+                String.valueOf(millis(start, System.nanoTime())));
+        ffp.sendAllTo(MMOItems.getConsole());
+
+        Bukkit.getPluginManager().callEvent(new TemplateReloadEvent(loaded, removed, false));
+    }
+
+    private void fullReload() {
+        final List<MMOItemTemplate> removed = new ArrayList<>(templates.collectValues());
+
         templates.clear();
+        index.clear();
         modifierNodes.clear();
+        fileChecksums.clear();
+        modifierFiles.clear();
+        modifierSources.clear();
+        modifierReferences.clear();
+        templateFiles.clear();
+        templateReferences.clear();
 
         preloadObjects();
         postloadObjects();
+
+        Bukkit.getPluginManager().callEvent(new TemplateReloadEvent(templates.collectValues(), removed, true));
+    }
+
+    /**
+     * Preloads public modifier nodes from a modifier config file
+     *
+     * @param file   Modifier config file path
+     * @param parsed Parsed modifier config file
+     * @param only   IDs of the nodes to load, or null to load all of them
+     * @return IDs of loaded nodes
+     */
+    @NotNull
+    private List<String> loadModifierFile(@NotNull String file, @NotNull ParsedFile parsed, @Nullable Set<String> only) {
+        acceptFile(file, parsed);
+        final FileConfiguration config = parsed.config;
+        final List<String> loaded = new ArrayList<>();
+
+        for (String key : config.getKeys(false)) {
+            if (only != null && !only.contains(key)) continue;
+
+            final Set<String> references = new HashSet<>();
+            modifierSources.put(key, file);
+            modifierReferences.put(key, references);
+            loaded.add(key);
+
+            REFERENCE_COLLECTOR.set(references);
+            try {
+                final ModifierNode node = ModifierNode.fromConfig(key, config.get(key));
+                modifierNodes.put(node.getId(), node);
+            } catch (RuntimeException exception) {
+                MMOItems.plugin.getLogger().log(Level.WARNING, String.format("Could not load modifier '%s' from file '%s': %s", key, file, exception.getMessage()));
+            } finally {
+                REFERENCE_COLLECTOR.remove();
+            }
+        }
+
+        if (only == null) modifierFiles.put(file, new ArrayList<>(config.getKeys(false)));
+        return loaded;
+    }
+
+    private void postloadModifierNode(@NotNull ModifierNode node, @NotNull FriendlyFeedbackProvider ffp) {
+        REFERENCE_COLLECTOR.set(modifierReferences.computeIfAbsent(node.getId(), unused -> new HashSet<>()));
+        try {
+            node.getPostLoadAction().performAction();
+        } catch (Exception exception) {
+            ffp.log(FriendlyFeedbackCategory.INFORMATION, "Could not post-load template modifier '{0}': {1}", node.getId(), exception.getMessage());
+        } finally {
+            REFERENCE_COLLECTOR.remove();
+        }
+    }
+
+    /**
+     * Preloads templates from the config file of some item type
+     *
+     * @param type   Type of templates to load
+     * @param parsed Parsed config file of that type
+     * @param only   IDs of the templates to load, or null to load all of them
+     * @return Loaded templates
+     */
+    @NotNull
+    private List<MMOItemTemplate> loadTemplateFile(@NotNull Type type, @NotNull ParsedFile parsed, @Nullable Set<String> only, @NotNull FriendlyFeedbackProvider ffp) {
+        final String file = getTemplateFile(type);
+        acceptFile(file, parsed);
+        parsed.templateErrors.forEach((key, error) -> ffp.log(FriendlyFeedbackCategory.ERROR, "Could not preload item template '{0}': {1}", key, error));
+
+        final List<MMOItemTemplate> fileTemplates = templateFiles.computeIfAbsent(file, unused -> new ArrayList<>());
+        final List<MMOItemTemplate> loaded = new ArrayList<>();
+        for (MMOItemTemplate template : parsed.templates)
+            if (only == null || only.contains(template.getId())) {
+                registerTemplate(template);
+                fileTemplates.add(template);
+                loaded.add(template);
+            }
+
+        return loaded;
+    }
+
+    private void postloadTemplate(@NotNull MMOItemTemplate template) {
+        final Set<String> references = new HashSet<>();
+        templateReferences.put(template, references);
+
+        REFERENCE_COLLECTOR.set(references);
+        try {
+            template.getPostLoadAction().performAction();
+        } finally {
+            REFERENCE_COLLECTOR.remove();
+        }
+    }
+
+    @NotNull
+    private static String getTemplateFile(@NotNull Type type) {
+        return "item/" + type.getId().toLowerCase() + ".yml";
+    }
+
+    /**
+     * @return Paths of all modifier config files, relative to the plugin folder
+     */
+    @NotNull
+    private static List<String> listModifierFiles() {
+        final Path folder = MMOItems.plugin.getDataFolder().toPath().resolve("modifiers");
+        if (!Files.isDirectory(folder)) return Collections.emptyList();
+
+        try (Stream<Path> stream = Files.walk(folder)) {
+            return stream.filter(path -> path.toString().endsWith(".yml"))
+                    .map(path -> "modifiers/" + folder.relativize(path).toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException exception) {
+            MMOItems.plugin.getLogger().log(Level.WARNING, "Could not list modifier files: " + exception.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads and parses config files. Files are parsed in parallel when
+     * there are enough of them, then results are returned in the same
+     * order as the input so that objects are registered deterministically.
+     * <p>
+     * Only YAML parsing and template construction happen on worker threads.
+     * Post-loading templates reads stat data, which can use Bukkit APIs, so
+     * it is still done on the main thread.
+     *
+     * @param files    Paths of files to parse, relative to the plugin folder,
+     *                 mapped to the item type of their templates, or to null
+     *                 for modifier files
+     * @param snapshot Cache of previously parsed files, if enabled
+     * @return Parsed files
+     */
+    @NotNull
+    private static Map<String, ParsedFile> parseFiles(@NotNull Map<String, Type> files, @Nullable TemplateSnapshot snapshot) {
+        final Map<String, ParsedFile> parsed = new LinkedHashMap<>();
+        final int threads = Math.min(MMOItems.plugin.getLanguage().templateParseThreads, files.size());
+        if (threads <= 1) {
+            files.forEach((path, type) -> parsed.put(path, parseFile(path, type, snapshot)));
+            return parsed;
+        }
+
+        final AtomicInteger counter = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "MMOItems Template Parsing #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final Map<String, Future<ParsedFile>> futures = new LinkedHashMap<>();
+            files.forEach((path, type) -> futures.put(path, pool.submit(() -> parseFile(path, type, snapshot))));
+            for (Map.Entry<String, Future<ParsedFile>> entry : futures.entrySet())
+                parsed.put(entry.getKey(), entry.getValue().get());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing template files", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Could not parse template files", exception.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Can be called from any thread
+     */
+    @NotNull
+    private static ParsedFile parseFile(@NotNull String path, @Nullable Type type, @Nullable TemplateSnapshot snapshot) {
+        final ParsedFile parsed = new ParsedFile();
+        final File file = new File(MMOItems.plugin.getDataFolder(), path);
+        if (!file.exists()) return parsed;
+
+        try {
+            final byte[] bytes = Files.readAllBytes(file.toPath());
+            final long checksum = checksum(bytes);
+            parsed.fromSnapshot = snapshot != null && snapshot.load(path, checksum, parsed.config);
+            if (!parsed.fromSnapshot) {
+                parsed.config.loadFromString(new String(bytes, StandardCharsets.UTF_8));
+                if (snapshot != null) snapshot.save(path, checksum, parsed.config);
+            }
+            parsed.checksum = checksum;
+        } catch (IOException | InvalidConfigurationException exception) {
+            parsed.checksum = null;
+            parsed.error = exception.getMessage();
+        }
+
+        if (type != null) for (String key : parsed.config.getKeys(false))
+            try {
+                parsed.templates.add(new MMOItemTemplate(type, parsed.config.getConfigurationSection(key)));
+            } catch (IllegalArgumentException exception) {
+                parsed.templateErrors.put(key, exception.getMessage());
+            }
+
+        return parsed;
+    }
+
+    /**
+     * Saves the checksum of a parsed file and logs parsing errors
+     */
+    private void acceptFile(@NotNull String path, @NotNull ParsedFile parsed) {
+        if (parsed.error != null)
+            MMOItems.plugin.getLogger().log(Level.SEVERE, "Could not load " + path + ": " + parsed.error);
+
+        if (parsed.checksum != null) fileChecksums.put(path, parsed.checksum);
+        else fileChecksums.remove(path);
+    }
+
+    private static long millis(long startNanos, long endNanos) {
+        return (endNanos - startNanos) / 1_000_000;
+    }
+
+    private static class ParsedFile {
+        private final YamlConfiguration config = new YamlConfiguration();
+        private final List<MMOItemTemplate> templates = new ArrayList<>();
+        private final Map<String, String> templateErrors = new LinkedHashMap<>();
+
+        /**
+         * Null if the file could not be read, -1 if it does not exist
+         */
+        @Nullable
+        private Long checksum = -1L;
+        @Nullable
+        private String error;
+        private boolean fromSnapshot;
+    }
+
+    /**
+     * Files which could not be read are always considered changed
+     */
+    private boolean hasChanged(@NotNull String path) {
+        final Long previous = fileChecksums.get(path);
+        return previous == null || previous != readChecksum(new File(MMOItems.plugin.getDataFolder(), path));
+    }
+
+    private static long getSharedChecksum() {
+        long checksum = 0;
+        for (String path : SHARED_FILES)
+            checksum = 31 * checksum + readChecksum(new File(MMOItems.plugin.getDataFolder(), path));
+        return checksum;
+    }
+
+    private static long readChecksum(@NotNull File file) {
+        if (!file.exists()) return -1;
+
+        try {
+            return checksum(Files.readAllBytes(file.toPath()));
+        } catch (IOException exception) {
+            return -2;
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
     }
 }
@@ -0,0 +1,264 @@
+package net.Indyuce.mmoitems.manager;
+
+import net.Indyuce.mmoitems.MMOItems;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Binary cache of parsed item and modifier config files, saved in the
+ * plugin folder. Parsing YAML is the most expensive part of loading
+ * templates, so files which did not change since the last startup are
+ * decoded from that cache instead.
+ * <p>
+ * Entries are only used when the checksum of the source file matches.
+ * The whole cache is discarded when the plugin or server version changes.
+ * Files containing values other than strings, numbers, booleans, lists
+ * and maps are not cached.
+ */
+class TemplateSnapshot {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean changed;
+
+    private static final int MAGIC = 0x4D494E53, FORMAT_VERSION = 1;
+    private static final byte SECTION = 0, STRING = 1, INTEGER = 2, LONG = 3, DOUBLE = 4, BOOLEAN = 5, LIST = 6, MAP = 7;
+
+    @NotNull
+    public static File getFile() {
+        return new File(MMOItems.plugin.getDataFolder(), "cache/templates.bin");
+    }
+
+    /**
+     * @return Cache saved in the plugin folder, or an empty cache
+     *         if there is none or if it is outdated
+     */
+    @NotNull
+    public static TemplateSnapshot read() {
+        final TemplateSnapshot snapshot = new TemplateSnapshot();
+        final File file = getFile();
+        if (!file.exists()) return snapshot;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION
+                    || !input.readUTF().equals(getVersion())) {
+                snapshot.changed = true;
+                return snapshot;
+            }
+
+            final int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                final String path = input.readUTF();
+                final long checksum = input.readLong();
+                final byte[] data = new byte[input.readInt()];
+                input.readFully(data);
+                snapshot.entries.put(path, new Entry(checksum, data));
+            }
+        } catch (IOException exception) {
+            MMOItems.plugin.getLogger().log(Level.WARNING, "Could not read template cache, files will be parsed again: " + exception.getMessage());
+            snapshot.entries.clear();
+            snapshot.changed = true;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Can be called from any thread
+     *
+     * @param path     Path of source file
+     * @param checksum Checksum of source file
+     * @param config   Config to load cached values into
+     * @return If some up-to-date entry was found and loaded
+     */
+    public boolean load(@NotNull String path, long checksum, @NotNull ConfigurationSection config) {
+        final Entry entry = entries.get(path);
+        if (entry == null || entry.checksum != checksum) return false;
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(entry.data))) {
+            readSection(input, config);
+            return true;
+        } catch (IOException | RuntimeException exception) {
+            entries.remove(path);
+            changed = true;
+            return false;
+        }
+    }
+
+    /**
+     * Can be called from any thread. Caches the content of
+     * a parsed config file, if it only contains supported values.
+     */
+    public void save(@NotNull String path, long checksum, @NotNull ConfigurationSection config) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                writeSection(output, config);
+            }
+            entries.put(path, new Entry(checksum, bytes.toByteArray()));
+        } catch (IOException | IllegalArgumentException exception) {
+            entries.remove(path);
+        }
+        changed = true;
+    }
+
+    /**
+     * Removes entries of files which no longer exist, then saves the
+     * cache into the plugin folder if anything changed.
+     *
+     * @param paths Paths of all source files
+     */
+    public void write(@NotNull Collection<String> paths) {
+        changed |= entries.keySet().retainAll(paths);
+        if (!changed) return;
+
+        final File file = getFile();
+        file.getParentFile().mkdirs();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(getVersion());
+            output.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeLong(entry.getValue().checksum);
+                output.writeInt(entry.getValue().data.length);
+                output.write(entry.getValue().data);
+            }
+            changed = false;
+        } catch (IOException exception) {
+            MMOItems.plugin.getLogger().log(Level.WARNING, "Could not save template cache: " + exception.getMessage());
+        }
+    }
+
+    @NotNull
+    private static String getVersion() {
+        return MMOItems.plugin.getDescription().getVersion() + "/" + Bukkit.getBukkitVersion();
+    }
+
+    private static void writeSection(@NotNull DataOutputStream output, @NotNull ConfigurationSection section) throws IOException {
+        final Set<String> keys = section.getKeys(false);
+        output.writeInt(keys.size());
+        for (String key : keys) {
+            writeString(output, key);
+            final Object value = section.get(key);
+            if (value instanceof ConfigurationSection) {
+                output.writeByte(SECTION);
+                writeSection(output, (ConfigurationSection) value);
+            } else writeValue(output, value);
+        }
+    }
+
+    private static void readSection(@NotNull DataInputStream input, @NotNull ConfigurationSection section) throws IOException {
+        final int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            final String key = readString(input);
+            final byte tag = input.readByte();
+            if (tag == SECTION) readSection(input, section.createSection(key));
+            else section.set(key, readValue(input, tag));
+        }
+    }
+
+    private static void writeValue(@NotNull DataOutputStream output, @Nullable Object value) throws IOException {
+        if (value instanceof String) {
+            output.writeByte(STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            output.writeByte(LIST);
+            final List<?> list = (List<?>) value;
+            output.writeInt(list.size());
+            for (Object element : list)
+                writeValue(output, element);
+        } else if (value instanceof Map) {
+            output.writeByte(MAP);
+            final Map<?, ?> map = (Map<?, ?>) value;
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String))
+                    throw new IllegalArgumentException("Unsupported map key " + entry.getKey());
+                writeString(output, (String) entry.getKey());
+                writeValue(output, entry.getValue());
+            }
+        } else throw new IllegalArgumentException("Unsupported value " + value);
+    }
+
+    @NotNull
+    private static Object readValue(@NotNull DataInputStream input, byte tag) throws IOException {
+        switch (tag) {
+            case STRING:
+                return readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case BOOLEAN:
+                return input.readBoolean();
+            case LIST: {
+                final int size = input.readInt();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    list.add(readValue(input, input.readByte()));
+                return list;
+            }
+            case MAP: {
+                final int size = input.readInt();
+                final Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    final String key = readString(input);
+                    map.put(key, readValue(input, input.readByte()));
+                }
+                return map;
+            }
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Unlike {@link DataOutputStream#writeUTF(String)},
+     * there is no limit on string length
+     */
+    private static void writeString(@NotNull DataOutputStream output, @NotNull String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Entry {
+        private final long checksum;
+        private final byte[] data;
+
+        Entry(long checksum, byte[] data) {
+            this.checksum = checksum;
+            this.data = data;
+        }
+    }
+}
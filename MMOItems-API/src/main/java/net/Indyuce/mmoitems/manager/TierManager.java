@@ -6,6 +6,7 @@ import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.ConfigFile;
 import net.Indyuce.mmoitems.api.ItemTier;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
+import net.Indyuce.mmoitems.api.util.WeightedSampler;
 import net.Indyuce.mmoitems.api.util.message.FFPMMOItems;
 import net.Indyuce.mmoitems.gui.edition.recipe.gui.RecipeEditorGUI;
 import io.lumine.mythic.lib.util.lang3.Validate;
@@ -14,11 +15,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Random;
 
 public class TierManager implements Reloadable{
-	private final Map<String, ItemTier> tiers = new HashMap<>();
+	private final Map<String, ItemTier> tiers = new LinkedHashMap<>();
+
+	/**
+	 * Used to roll random tiers, built again when tiers change. A null
+	 * element stands for the probability of getting no tier at all
+	 */
+	@Nullable private WeightedSampler<ItemTier> tierSampler;
+
+	private static final Random RANDOM = new Random();
 
 	public TierManager() {
 		reload();
@@ -26,6 +36,7 @@ public class TierManager implements Reloadable{
 
 	public void reload() {
 		tiers.clear();
+		tierSampler = null;
 
 		// For logging
 		FriendlyFeedbackProvider ffp = new FriendlyFeedbackProvider(FFPMMOItems.get());
@@ -59,7 +70,36 @@ public class TierManager implements Reloadable{
 	 *
 	 * @param tier Tier to register
 	 */
-	public void register(@NotNull ItemTier tier) { tiers.put(tier.getId(), tier); }
+	public void register(@NotNull ItemTier tier) {
+		tiers.put(tier.getId(), tier);
+		tierSampler = null;
+	}
+
+	/**
+	 * Every tier has its own generation chance. Tiers are considered in
+	 * registration order and once chances add up to 100%, following tiers
+	 * can no longer be picked. The remaining probability, if any, is the
+	 * probability of getting no tier at all.
+	 *
+	 * @return A random tier, or null for no tier
+	 */
+	@Nullable
+	public ItemTier rollTier() {
+		if (tierSampler == null) {
+			final WeightedSampler.Builder<ItemTier> builder = WeightedSampler.builder();
+			double s = 0;
+			for (ItemTier tier : tiers.values()) {
+				builder.add(tier, Math.max(0, Math.min(tier.getGenerationChance(), 1 - s)));
+				s += tier.getGenerationChance();
+			}
+
+			// Default tier
+			builder.add(null, Math.max(0, 1 - s));
+			tierSampler = builder.isEmpty() ? builder.add(null, 1).build() : builder.build();
+		}
+
+		return tierSampler.sample(RANDOM);
+	}
 
 	/**
 	 * @param id Tier name
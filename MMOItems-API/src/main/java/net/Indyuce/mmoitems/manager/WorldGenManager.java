@@ -11,10 +11,11 @@ import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.event.HandlerList;
+import org.bukkit.generator.WorldInfo;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 public class WorldGenManager implements Reloadable {
@@ -27,6 +28,13 @@ public class WorldGenManager implements Reloadable {
      */
     private final Map<CustomBlock, WorldGenTemplate> assigned = new HashMap<>();
 
+    /*
+     * custom blocks that can generate in each world, computed once per world
+     * and cleared whenever assignments change. populators can run on async
+     * threads during chunk generation hence the concurrent map
+     */
+    private final Map<String, List<Map.Entry<CustomBlock, WorldGenTemplate>>> perWorld = new ConcurrentHashMap<>();
+
     private WorldGenerationListener listener;
 
     public WorldGenManager() {
@@ -52,6 +60,7 @@ public class WorldGenManager implements Reloadable {
         Validate.notNull(template, "Cannot assign a null template to a custom block");
 
         assigned.put(block, template);
+        perWorld.clear();
     }
 
     public void reload() {
@@ -60,6 +69,7 @@ public class WorldGenManager implements Reloadable {
             HandlerList.unregisterAll(listener);
 
         assigned.clear();
+        perWorld.clear();
         templates.clear();
 
         FileConfiguration config = new ConfigFile("gen-templates").getConfig();
@@ -91,4 +101,24 @@ public class WorldGenManager implements Reloadable {
     public Map<CustomBlock, WorldGenTemplate> assigned() {
         return assigned;
     }
+
+    /**
+     * @param worldInfo World being generated
+     * @return Custom blocks which can generate in that world, with their
+     *         gen templates. The returned list must not be modified
+     */
+    @NotNull
+    public List<Map.Entry<CustomBlock, WorldGenTemplate>> getGenerating(@NotNull WorldInfo worldInfo) {
+        return perWorld.computeIfAbsent(worldInfo.getName(), name -> {
+            final List<Map.Entry<CustomBlock, WorldGenTemplate>> list = new ArrayList<>();
+            for (Map.Entry<CustomBlock, WorldGenTemplate> entry : assigned.entrySet()) {
+                final WorldGenTemplate template = entry.getValue();
+                if (template.canGenerateInWorld(name)
+                        && template.getMinDepth() >= worldInfo.getMinHeight()
+                        && template.getMaxDepth() <= worldInfo.getMaxHeight())
+                    list.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), template));
+            }
+            return Collections.unmodifiableList(list);
+        });
+    }
 }
@@ -4,6 +4,7 @@ import io.lumine.mythic.lib.data.DataLoadResult;
 import io.lumine.mythic.lib.data.DefaultOfflineDataHolder;
 import io.lumine.mythic.lib.data.yaml.YAMLFlatDatabase;
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.crafting.storage.CraftingQueueStorage;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.configuration.ConfigurationSection;
@@ -19,6 +20,13 @@ public class YAMLDatabaseImpl extends YAMLFlatDatabase<PlayerData, DefaultOfflin
     @Override
     public void saveInSection(PlayerData playerData, ConfigurationSection config) {
         //config.set("permissions-from-items", new ArrayList<>(playerData.getInventory().getPermissions()));
+
+        // Crafting queues are written row by row by the queue storage
+        if (MMOItems.plugin.getCrafting().getQueueStorage() != null) {
+            config.set("crafting-queue", null);
+            return;
+        }
+
         config.createSection("crafting-queue");
         playerData.getCrafting().saveToYaml(config.getConfigurationSection("crafting-queue"));
     }
@@ -26,7 +34,10 @@ public class YAMLDatabaseImpl extends YAMLFlatDatabase<PlayerData, DefaultOfflin
     @Override
     protected @NotNull DataLoadResult loadFromSection(@NotNull PlayerData playerData, @NotNull ConfigurationSection config, boolean isSaved) {
 
-        if (config.contains("crafting-queue"))
+        final CraftingQueueStorage queueStorage = MMOItems.plugin.getCrafting().getQueueStorage();
+        if (queueStorage != null)
+            playerData.getCrafting().loadFromStorage(queueStorage, config.getConfigurationSection("crafting-queue"));
+        else if (config.contains("crafting-queue"))
             playerData.getCrafting().loadFromYaml(config.getConfigurationSection("crafting-queue"));
 
         if (MMOItems.plugin.hasPermissions() && config.contains("permissions-from-items")) {
@@ -21,5 +21,6 @@ public class MaxConsume extends DoubleStat {
 
         String format = getGeneralStatFormat().replace("{value}", String.valueOf(left));
         item.getLore().insert(getPath(), format);
+        item.getLore().registerDynamicRegion(getNBTPath(), getGeneralStatFormat(), "{value}", left);
     }
 }
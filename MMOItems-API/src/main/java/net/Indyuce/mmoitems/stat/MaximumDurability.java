@@ -50,8 +50,9 @@ public class MaximumDurability extends DoubleStat implements ItemRestriction, Ge
         item.addItemTag(new ItemTag(getNBTPath(), max));
 
         // Display durability in lore here.
-        String format = getGeneralStatFormat().replace("{max}", String.valueOf(max)).replace("{current}", String.valueOf(current));
-        item.getLore().insert("durability", format);
+        String format = getGeneralStatFormat().replace("{max}", String.valueOf(max));
+        item.getLore().insert("durability", format.replace("{current}", String.valueOf(current)));
+        item.getLore().registerDynamicRegion(getNBTPath(), format, "{current}", current);
     }
 
     @Override
@@ -141,7 +141,7 @@ public class Permission extends StringListStat implements ItemRestriction {
 	public boolean canUse(RPGPlayer player, NBTItem item, boolean message) {
 		String perm = item.getString("MMOITEMS_PERMISSION");
 		if (!perm.equals("") && !player.getPlayer().hasPermission("mmoitems.bypass.item")
-				&& MMOItems.plugin.getConfig().getBoolean("permissions.items")) {
+				&& MMOItems.plugin.getLanguage().itemPermissions) {
 			String[] split = perm.split("\\|");
 			for (String s : split)
 				if (!player.getPlayer().hasPermission(s)) {
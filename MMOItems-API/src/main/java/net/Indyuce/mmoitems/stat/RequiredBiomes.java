@@ -38,6 +38,9 @@ public class RequiredBiomes extends StringListStat implements ItemRestriction, G
         boolean counter = false;
         if (data != null) {
 
+            // Get biome
+            final String b = player.getPlayer().getLocation().getBlock().getBiome().getKey().getKey();
+
             // Check every string, must match once
             for (String biome : data.getList()) {
 
@@ -45,9 +48,6 @@ public class RequiredBiomes extends StringListStat implements ItemRestriction, G
                 String tst = biome.toLowerCase().replace(" ", "_").replace("-", "_");
                 if (tst.startsWith("!")) { counter = true; tst = tst.substring(1); }
 
-                // Get biome
-                String b = player.getPlayer().getLocation().getBlock().getBiome().getKey().getKey();
-
                 // Check
                 if (b.contains(tst)) { return !counter; }
             }
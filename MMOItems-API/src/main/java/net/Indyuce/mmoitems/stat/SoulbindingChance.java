@@ -6,7 +6,6 @@ import net.Indyuce.mmoitems.ItemStats;
 import net.Indyuce.mmoitems.api.Type;
 import net.Indyuce.mmoitems.api.event.item.ApplySoulboundEvent;
 import net.Indyuce.mmoitems.api.interaction.Consumable;
-import net.Indyuce.mmoitems.api.item.mmoitem.LiveMMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.VolatileMMOItem;
 import net.Indyuce.mmoitems.api.player.PlayerData;
@@ -15,12 +14,14 @@ import net.Indyuce.mmoitems.stat.annotation.HasCategory;
 import net.Indyuce.mmoitems.stat.data.SoulboundData;
 import net.Indyuce.mmoitems.stat.type.ConsumableItemInteraction;
 import net.Indyuce.mmoitems.stat.type.DoubleStat;
+import net.Indyuce.mmoitems.util.AutoBindUtil;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -66,9 +67,8 @@ public class SoulbindingChance extends DoubleStat implements ConsumableItemInter
 				return false;
 
 			int soulboundLevel = (int) Math.max(1, consumable.getNBTItem().getStat("SOULBOUND_LEVEL"));
-			(targetMMO = new LiveMMOItem(target)).setData(ItemStats.SOULBOUND,
-					new SoulboundData(player.getUniqueId(), player.getName(), soulboundLevel));
-			target.getItem().setItemMeta(targetMMO.newBuilder().build().getItemMeta());
+			final ItemStack bound = AutoBindUtil.applySoulbound(target, new SoulboundData(player.getUniqueId(), player.getName(), soulboundLevel), false);
+			target.getItem().setItemMeta(bound.getItemMeta());
 			Message.SUCCESSFULLY_BIND_ITEM
 					.format(ChatColor.YELLOW, "#item#", MMOUtils.getDisplayName(target.getItem()), "#level#", MMOUtils.intToRoman(soulboundLevel))
 					.send(player);
@@ -186,6 +186,17 @@ public class GemstoneData {
      * @param color Color of the slot this gem was inserted onto.
      */
     public GemstoneData(@NotNull LiveMMOItem gemStoneMMOItem, @Nullable String color, @NotNull UUID forcedHistoryUUID) {
+        this(gemStoneMMOItem, color, forcedHistoryUUID, gemStoneMMOItem.newBuilder().build());
+    }
+
+    /**
+     * Create a GemStoneData from a Gem Stone MMOItem, storing the provided
+     * item stack instead of rebuilding the gem stone item.
+     *
+     * @param color      Color of the slot this gem was inserted onto.
+     * @param storedItem Gem stone item given back when unsocketing the gem
+     */
+    public GemstoneData(@NotNull ReadMMOItem gemStoneMMOItem, @Nullable String color, @NotNull UUID forcedHistoryUUID, @Nullable ItemStack storedItem) {
 
         // Get Name to Display
         name = resolveLoreTagName(gemStoneMMOItem);
@@ -205,16 +216,15 @@ public class GemstoneData {
         mmoitemID = gemStoneMMOItem.getId();
         mmoitemType = gemStoneMMOItem.getType().getId();
         socketColor = color;
-        storedItem = serializeItem(gemStoneMMOItem.newBuilder().build());
+        this.storedItem = storedItem == null ? null : serializeItem(storedItem);
     }
 
     // TODO improve on this code
     private String resolveLoreTagName(ReadMMOItem mmoitem) {
 
         // This code should always run, hopefully all items have name data
-        var nameData = mmoitem.getData(ItemStats.NAME);
-        if (nameData != null) {
-            return ((NameData) nameData).bake();
+        if (mmoitem.hasData(ItemStats.NAME)) {
+            return ((NameData) mmoitem.getData(ItemStats.NAME)).bake();
         }
 
         // This code does not like tooltips
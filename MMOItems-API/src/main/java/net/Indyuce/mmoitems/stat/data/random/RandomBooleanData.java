@@ -1,6 +1,6 @@
 package net.Indyuce.mmoitems.stat.data.random;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import net.Indyuce.mmoitems.api.item.build.MMOItemBuilder;
 import net.Indyuce.mmoitems.stat.data.BooleanData;
@@ -9,8 +9,6 @@ import net.Indyuce.mmoitems.stat.data.type.StatData;
 public class RandomBooleanData implements RandomStatData<BooleanData> {
 	private final double chance;
 
-	private static final Random random = new Random();
-
 	public RandomBooleanData(boolean state) {
 		chance = state ? 1 : 0;
 	}
@@ -25,6 +23,6 @@ public class RandomBooleanData implements RandomStatData<BooleanData> {
 
 	@Override
 	public BooleanData randomize(MMOItemBuilder builder) {
-		return new BooleanData(random.nextDouble() < chance);
+		return new BooleanData(ThreadLocalRandom.current().nextDouble() < chance);
 	}
 }
\ No newline at end of file
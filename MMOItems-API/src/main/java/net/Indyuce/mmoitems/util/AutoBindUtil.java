@@ -5,6 +5,7 @@ import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.ItemStats;
 import net.Indyuce.mmoitems.api.Type;
 import net.Indyuce.mmoitems.api.event.item.ApplySoulboundEvent;
+import net.Indyuce.mmoitems.api.item.build.ItemStackPatcher;
 import net.Indyuce.mmoitems.api.item.mmoitem.LiveMMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.MMOItem;
 import net.Indyuce.mmoitems.api.item.mmoitem.VolatileMMOItem;
@@ -75,25 +76,16 @@ public final class AutoBindUtil {
         int level = levelFromItem > 0 ? levelFromItem : Math.max(1, configuredDefault);
 
         // 写入绑定数据并更新显示
-        MMOItem live = new LiveMMOItem(item);
-        live.setData(ItemStats.SOULBOUND, new SoulboundData(player.getUniqueId(), player.getName(), level));
-        // 绑定成功后将自动绑定标记显式置为 false，避免后续仍为 true
-        live.setData(ItemStats.AUTO_BIND_ON_USE, new BooleanData(false));
-        // 强制对所有 Mergeable 统计进行一次历史重算，避免未初始化导致的丢失
-        for (ItemStat<?, ?> stat : live.getStats()) {
-            if (stat instanceof Mergeable) {
-                live.setData(stat, live.computeStatHistory(stat).recalculate(live.getUpgradeLevel()));
-            }
-        }
+        final SoulboundData soulbound = new SoulboundData(player.getUniqueId(), player.getName(), level);
 
         /*
-         * 关键修复：必须使用 newBuilder().build() 的完整 ItemStack 写回槽位。
+         * 关键修复：必须使用带有完整 NBT 的 ItemStack 写回槽位。
          * 仅 setItemMeta 会在部分版本/实现下丢失 MMOItems/MythicLib 的自定义 NBT，导致：
          * - SOULBOUND 未真正写入；
          * - MMOITEMS_AUTO_BIND_ON_USE 仍为 true；
          * 从而每次“使用效果”都会重复触发绑定提示，直到其它路径（如攻击）恰好重建物品。
          */
-        final ItemStack rebuilt = live.newBuilder().build();
+        final ItemStack rebuilt = applySoulbound(item, soulbound, true);
         // 理论上自动绑定只允许单件，但仍保留数量，避免极端兼容场景下数量被重置
         rebuilt.setAmount(item.getItem().getAmount());
 
@@ -127,4 +119,42 @@ public final class AutoBindUtil {
         player.playSound(player.getLocation(), Sounds.ENTITY_PLAYER_LEVELUP, 1, 2);
         return true;
     }
+
+    /**
+     * 为物品写入灵魂绑定：仅在现有物品上修改灵魂绑定/自动绑定的 NBT 与 lore 行，
+     * 无法直接修改 lore 的物品（如使用了 tooltip 材质）才会完整重建。
+     *
+     * @param item            需要绑定的物品
+     * @param soulbound       写入的灵魂绑定数据
+     * @param disableAutoBind 是否同时将自动绑定标记置为 false
+     * @return 绑定后的物品（包含完整 NBT）
+     */
+    @NotNull
+    public static ItemStack applySoulbound(@NotNull NBTItem item, @NotNull SoulboundData soulbound, boolean disableAutoBind) {
+        final VolatileMMOItem mmo = new VolatileMMOItem(item);
+        final ItemStackPatcher patcher = new ItemStackPatcher(mmo);
+        patcher.snapshot(ItemStats.SOULBOUND);
+        if (disableAutoBind) patcher.snapshot(ItemStats.AUTO_BIND_ON_USE);
+
+        if (patcher.isPatchable()) {
+            mmo.setData(ItemStats.SOULBOUND, soulbound);
+            if (disableAutoBind) mmo.setData(ItemStats.AUTO_BIND_ON_USE, new BooleanData(false));
+
+            final ItemStack patched = patcher.build();
+            if (patched != null) return patched;
+        }
+
+        MMOItem live = new LiveMMOItem(item);
+        live.setData(ItemStats.SOULBOUND, soulbound);
+        // 绑定成功后将自动绑定标记显式置为 false，避免后续仍为 true
+        if (disableAutoBind) live.setData(ItemStats.AUTO_BIND_ON_USE, new BooleanData(false));
+        // 强制对所有 Mergeable 统计进行一次历史重算，避免未初始化导致的丢失
+        for (ItemStat<?, ?> stat : live.getStats()) {
+            if (stat instanceof Mergeable) {
+                live.setData(stat, live.computeStatHistory(stat).recalculate(live.getUpgradeLevel()));
+            }
+        }
+
+        return live.newBuilder().build();
+    }
 }
@@ -171,7 +171,14 @@ public class MMOUtils {
      *
      */
     public static double getForce(@NotNull EntityShootBowEvent event) {
-        final var force = event.getForce();
+        return getForce(event.getForce());
+    }
+
+    /**
+     * @param force Force of some bow shot, as given by {@link EntityShootBowEvent#getForce()}
+     * @return Actual bow force
+     */
+    public static double getForce(float force) {
 
         // [BUGFIX] For some f**king reason, force is 1/63 of what it should be
         // in between 1.21 and 1.21.4 included. Fixed in most recent Spigot builds
@@ -0,0 +1,78 @@
+package net.Indyuce.mmoitems.api.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class WeightedSamplerTest {
+    private static final int DRAWS = 200_000;
+
+    /**
+     * Chi-square critical value for 3 degrees of freedom at p = 0.001
+     */
+    private static final double CRITICAL_VALUE = 16.266;
+
+    @Test
+    public void skewedWeightsFollowDistribution() {
+        final String[] elements = {"common", "uncommon", "rare", "legendary"};
+        final double[] weights = {100, 10, 1, .5};
+
+        final WeightedSampler.Builder<String> builder = WeightedSampler.builder();
+        for (int i = 0; i < elements.length; i++)
+            builder.add(elements[i], weights[i]);
+        final WeightedSampler<String> sampler = builder.build();
+
+        final Map<String, Integer> counts = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < DRAWS; i++)
+            counts.merge(sampler.sample(random), 1, Integer::sum);
+
+        double total = 0;
+        for (double weight : weights) total += weight;
+
+        double chiSquare = 0;
+        for (int i = 0; i < elements.length; i++) {
+            final double expected = DRAWS * weights[i] / total;
+            final double observed = counts.getOrDefault(elements[i], 0);
+            chiSquare += (observed - expected) * (observed - expected) / expected;
+        }
+
+        assertTrue("Chi-square statistic too high: " + chiSquare, chiSquare < CRITICAL_VALUE);
+    }
+
+    @Test
+    public void zeroWeightsAreNeverPicked() {
+        final WeightedSampler<String> sampler = WeightedSampler.<String>builder()
+                .add("never", 0)
+                .add("first", 1)
+                .add("also never", 0)
+                .add("second", 3)
+                .build();
+
+        assertEquals(2, sampler.getElements().size());
+
+        final Random random = new Random(42);
+        for (int i = 0; i < DRAWS; i++) {
+            final String sample = sampler.sample(random);
+            assertTrue(sample, sample.equals("first") || sample.equals("second"));
+        }
+    }
+
+    @Test
+    public void singleWeightIsAlwaysPicked() {
+        final WeightedSampler<String> sampler = WeightedSampler.<String>builder().add("only", 7.5).build();
+
+        final Random random = new Random(42);
+        for (int i = 0; i < DRAWS; i++)
+            assertEquals("only", sampler.sample(random));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void onlyZeroWeightsCannotBeBuilt() {
+        WeightedSampler.<String>builder().add("never", 0).build();
+    }
+}
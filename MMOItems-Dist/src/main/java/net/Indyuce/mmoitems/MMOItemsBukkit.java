@@ -24,7 +24,6 @@ public class MMOItemsBukkit {
         Bukkit.getPluginManager().registerEvents(new CustomSoundListener(), plugin);
         Bukkit.getPluginManager().registerEvents(new DurabilityListener(), plugin);
         Bukkit.getPluginManager().registerEvents(new DisableInteractions(), plugin);
-        Bukkit.getPluginManager().registerEvents(new BiomeChangeListener(), plugin);
         Bukkit.getPluginManager().registerEvents(new CustomBlockListener(), plugin);
         PluginUtils.hookDependencyIfPresent("PhatLoots", true, pl -> Bukkit.getPluginManager().registerEvents(new PhatLootsHook(pl), plugin));
 
@@ -21,10 +21,10 @@ import org.bukkit.event.block.BlockPhysicsEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.inventory.EquipmentSlot;
 
-import java.util.Optional;
 import java.util.logging.Level;
 
 public class CustomBlockListener implements Listener {
+    private static final BlockFace[] IGNITE_FACES = {BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.WEST, BlockFace.EAST};
 
     public CustomBlockListener() {
         if (MMOItems.plugin.getLanguage().replaceMushroomDrops)
@@ -35,6 +35,8 @@ public class CustomBlockListener implements Listener {
     public void a(BlockPhysicsEvent event) {
         if (MMOItems.plugin.getCustomBlocks().isMushroomBlock(event.getChangedType())) {
             event.setCancelled(true);
+
+            // Sends mushroom faces again to clients which already applied physics
             event.getBlock().getState().update(true, false);
         }
     }
@@ -44,11 +46,10 @@ public class CustomBlockListener implements Listener {
         if (event.getPlayer().getGameMode() == GameMode.CREATIVE)
             return;
 
-        Optional<CustomBlock> opt = MMOItems.plugin.getCustomBlocks().getFromBlock(event.getBlock().getBlockData());
-        if (!opt.isPresent())
+        final CustomBlock block = MMOItems.plugin.getCustomBlocks().getCustomBlock(event.getBlock().getBlockData());
+        if (block == null)
             return;
 
-        final CustomBlock block = opt.get();
         final int power = MMOUtils.getPickaxePower(event.getPlayer());
         if (power < block.getRequiredPower()) {
             if (block.requirePowerToBreak()) {
@@ -97,10 +98,11 @@ public class CustomBlockListener implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void d(BlockIgniteEvent event) {
         if (event.getCause() == IgniteCause.LAVA || event.getCause() == IgniteCause.SPREAD) {
-            BlockFace[] faces = {BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.WEST, BlockFace.EAST};
-            for (BlockFace face : faces)
-                if (MMOItems.plugin.getCustomBlocks().getFromBlock(event.getBlock().getRelative(face).getBlockData()).isPresent())
+            for (BlockFace face : IGNITE_FACES)
+                if (MMOItems.plugin.getCustomBlocks().getCustomBlock(event.getBlock().getRelative(face).getBlockData()) != null) {
                     event.setCancelled(true);
+                    return;
+                }
         }
     }
 
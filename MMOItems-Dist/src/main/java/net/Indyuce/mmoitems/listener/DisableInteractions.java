@@ -3,7 +3,10 @@ package net.Indyuce.mmoitems.listener;
 import io.lumine.mythic.lib.MythicLib;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.api.interaction.DisabledInteraction;
+import net.Indyuce.mmoitems.api.interaction.UseItemContext;
 import org.bukkit.Keyed;
+import org.bukkit.Material;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -28,13 +31,26 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DisableInteractions implements Listener {
 
+    /**
+     * Materials which can be shot by bows
+     */
+    private static final Set<Material> ARROWS = EnumSet.noneOf(Material.class);
+
+    static {
+        for (Material material : Material.values())
+            if (material.name().contains("ARROW")) ARROWS.add(material);
+    }
+
     @EventHandler(ignoreCancelled = true)
     public void itemDropping(PlayerDropItemEvent event) {
         ItemStack itemStack = event.getItemDrop().getItemStack();
 
-        if (isDisabled(NBTItem.get(itemStack), "drop")) {
+        if (isDisabled(NBTItem.get(itemStack), DisabledInteraction.DROP)) {
             event.setCancelled(true);
         }
 
@@ -46,9 +62,9 @@ public class DisableInteractions implements Listener {
         if (inv == null || inv.getType() != InventoryType.ANVIL || event.getSlotType() != SlotType.RESULT)
             return;
 
-        if (isDisabled(NBTItem.get(event.getCurrentItem()), "repair"))
+        if (isDisabled(NBTItem.get(event.getCurrentItem()), DisabledInteraction.REPAIR))
             event.setCancelled(true);
-        else if (inv.getItem(1) != null && isDisabled(NBTItem.get(inv.getItem(1)), "repair"))
+        else if (inv.getItem(1) != null && isDisabled(NBTItem.get(inv.getItem(1)), DisabledInteraction.REPAIR))
             event.setCancelled(true);
     }
 
@@ -61,7 +77,7 @@ public class DisableInteractions implements Listener {
         if (inv == null || inv.getType() != InventoryType.GRINDSTONE || event.getSlotType() != SlotType.RESULT)
             return;
 
-        if (isDisabled(NBTItem.get(inv.getItem(0)), "repair") || isDisabled(NBTItem.get(inv.getItem(1)), "repair"))
+        if (isDisabled(NBTItem.get(inv.getItem(0)), DisabledInteraction.REPAIR) || isDisabled(NBTItem.get(inv.getItem(1)), DisabledInteraction.REPAIR))
             event.setCancelled(true);
     }
 
@@ -74,19 +90,19 @@ public class DisableInteractions implements Listener {
         if (inv == null || inv.getType() != InventoryType.SMITHING || event.getSlotType() != SlotType.RESULT)
             return;
 
-        if (isDisabled(NBTItem.get(inv.getItem(0)), "smith") || isDisabled(NBTItem.get(inv.getItem(1)), "smith"))
+        if (isDisabled(NBTItem.get(inv.getItem(0)), DisabledInteraction.SMITH) || isDisabled(NBTItem.get(inv.getItem(1)), DisabledInteraction.SMITH))
             event.setCancelled(true);
     }
 
     @EventHandler
     public void enchantTablesInteractions(EnchantItemEvent event) {
-        if (isDisabled(NBTItem.get(event.getItem()), "enchant"))
+        if (isDisabled(NBTItem.get(event.getItem()), DisabledInteraction.ENCHANT))
             event.setCancelled(true);
     }
 
     @EventHandler
     public void furnaceInteractions(FurnaceSmeltEvent event) {
-        if (isDisabled(NBTItem.get(event.getSource()), "smelt"))
+        if (isDisabled(NBTItem.get(event.getSource()), DisabledInteraction.SMELT))
             event.setCancelled(true);
     }
 
@@ -95,7 +111,7 @@ public class DisableInteractions implements Listener {
      */
     @EventHandler(priority = EventPriority.LOW)
     public void miningInteractions(BlockBreakEvent event) {
-        NBTItem item = NBTItem.get(event.getPlayer().getInventory().getItemInMainHand());
+        NBTItem item = UseItemContext.get(event.getPlayer(), event.getPlayer().getInventory().getItemInMainHand()).getNBTItem();
         if (item.hasTag("MMOITEMS_UNIDENTIFIED_ITEM"))
             event.setCancelled(true);
     }
@@ -105,16 +121,16 @@ public class DisableInteractions implements Listener {
         if (event.getRightClicked() instanceof ArmorStand)
             return;
 
-        NBTItem item = NBTItem.get(event.getHand() == EquipmentSlot.OFF_HAND ? event.getPlayer().getInventory().getItemInOffHand()
-                : event.getPlayer().getInventory().getItemInMainHand());
-        if (item.getBoolean("MMOITEMS_DISABLE_INTERACTION"))
+        NBTItem item = UseItemContext.get(event.getPlayer(), event.getHand() == EquipmentSlot.OFF_HAND ? event.getPlayer().getInventory().getItemInOffHand()
+                : event.getPlayer().getInventory().getItemInMainHand()).getNBTItem();
+        if (item.getBoolean(DisabledInteraction.INTERACT.getNBTTag()))
             event.setCancelled(true);
     }
 
     @EventHandler
     public void consumeInteractions(PlayerItemConsumeEvent event) {
-        NBTItem item = NBTItem.get(event.getItem());
-        if (item.getBoolean("MMOITEMS_DISABLE_INTERACTION"))
+        NBTItem item = UseItemContext.get(event.getPlayer(), event.getItem()).getNBTItem();
+        if (item.getBoolean(DisabledInteraction.INTERACT.getNBTTag()))
             event.setCancelled(true);
     }
 
@@ -129,13 +145,13 @@ public class DisableInteractions implements Listener {
             }
 
         for (ItemStack item : event.getInventory().getMatrix()) {
-            if (isDisabled(NBTItem.get(item), "craft")) {
+            if (isDisabled(NBTItem.get(item), DisabledInteraction.CRAFT)) {
                 event.setCancelled(true);
                 return;
             }
         }
 
-        if (MMOItems.plugin.getConfig().getStringList("disable-vanilla-recipes").contains(event.getCurrentItem().getType().name()))
+        if (MMOItems.plugin.getLanguage().isVanillaRecipeDisabled(event.getCurrentItem().getType()))
             event.setCancelled(true);
     }
 
@@ -160,8 +176,8 @@ public class DisableInteractions implements Listener {
 
         // Cannot shoot arrow?
         NBTItem arrow = NBTItem.get(stack);
-        if (arrow.hasType() && (MMOItems.plugin.getConfig().getBoolean("disable-interactions.arrow-shooting")
-                || arrow.getBoolean("MMOITEMS_DISABLE_ARROW_SHOOTING")))
+        if (arrow.hasType() && (MMOItems.plugin.getLanguage().isInteractionDisabled(DisabledInteraction.ARROW_SHOOTING)
+                || arrow.getBoolean(DisabledInteraction.ARROW_SHOOTING.getNBTTag())))
             event.setCancelled(true);
     }
 
@@ -186,7 +202,7 @@ public class DisableInteractions implements Listener {
          */
 
         // Prevent unidentified weapons from being used
-        if (NBTItem.get(item).hasTag("MMOITEMS_UNIDENTIFIED_ITEM"))
+        if (UseItemContext.get(player, item).getNBTItem().hasTag("MMOITEMS_UNIDENTIFIED_ITEM"))
             event.setCancelled(true);
     }
 
@@ -194,20 +210,20 @@ public class DisableInteractions implements Listener {
     private ItemStack firstArrow(Player player) {
 
         // Check offhand first
-        if (player.getInventory().getItemInOffHand().getType().name().contains("ARROW"))
+        if (ARROWS.contains(player.getInventory().getItemInOffHand().getType()))
             return player.getInventory().getItemInOffHand();
 
         // Check for every slot
         ItemStack[] storage = player.getInventory().getStorageContents();
         for (ItemStack item : storage)
-            if (item != null && item.getType().name().contains("ARROW")) return item;
+            if (item != null && ARROWS.contains(item.getType())) return item;
 
         // No arrow to shoot
         return null;
     }
 
-    private boolean isDisabled(NBTItem nbt, String type) {
-        return nbt.hasType() && MMOItems.plugin.getConfig().getBoolean("disable-interactions." + type)
-                || nbt.getBoolean("MMOITEMS_DISABLE_" + type.toUpperCase().replace("-", "_") + "ING");
+    private boolean isDisabled(NBTItem nbt, DisabledInteraction interaction) {
+        return nbt.hasType() && MMOItems.plugin.getLanguage().isInteractionDisabled(interaction)
+                || nbt.getBoolean(interaction.getNBTTag());
     }
 }
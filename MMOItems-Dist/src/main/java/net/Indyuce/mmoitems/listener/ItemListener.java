@@ -8,6 +8,7 @@ import io.lumine.mythic.lib.version.VersionUtils;
 import net.Indyuce.mmoitems.ItemStats;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.interaction.util.DurabilityItem;
+import net.Indyuce.mmoitems.api.item.template.MMOItemTemplate;
 import net.Indyuce.mmoitems.api.util.MMOItemReforger;
 import net.Indyuce.mmoitems.listener.reforging.*;
 import net.Indyuce.mmoitems.reforge.ReforgeReason;
@@ -35,7 +36,12 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class ItemListener implements Listener {
+
+    private static ItemRevisionQueue revisionQueue;
+
     public ItemListener() {
+        revisionQueue = new ItemRevisionQueue();
+        revisionQueue.runTaskTimer(MMOItems.plugin, 1, 1);
 
         // Register Reforger Listeners
         Bukkit.getPluginManager().registerEvents(new RFGKeepName(), MMOItems.plugin);
@@ -117,11 +123,17 @@ public class ItemListener implements Listener {
         }, 1);
     }
 
-    @EventHandler(ignoreCancelled = true)
+    /**
+     * Picked up items are not updated right away. On the next tick, the
+     * player inventory is scanned for items with the same type and ID,
+     * which is done once for all items picked up during that tick.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     private void itemPickup(EntityPickupItemEvent event) {
         if (!event.getEntity().getType().equals(EntityType.PLAYER)) return;
-        ItemStack newItem = modifyItem(event.getItem().getItemStack(), (Player) event.getEntity(), ReforgeReason.PICKUP);
-        if (newItem != null) event.getItem().setItemStack(newItem);
+        if (MMOItems.plugin.getLanguage().isRevisionDisabled(ReforgeReason.PICKUP)) return;
+        final ItemStack stack = event.getItem().getItemStack();
+        if (isOutdated(stack)) revisionQueue.queuePickup((Player) event.getEntity(), NBTItem.get(stack));
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -144,52 +156,58 @@ public class ItemListener implements Listener {
         if (!MythicLib.plugin.hasProfiles()) updateInventory(event.getPlayer());
     }
 
+    /**
+     * Queues the player armor, hotbar and offhand for update. Items are
+     * then updated over the next ticks and not all at once.
+     */
     public static void updateInventory(Player player) {
-        ItemStack newItem = modifyItem(player.getEquipment().getHelmet(), player, ReforgeReason.JOIN);
-        if (newItem != null) player.getEquipment().setHelmet(newItem);
-        newItem = modifyItem(player.getEquipment().getChestplate(), player, ReforgeReason.JOIN);
-        if (newItem != null) player.getEquipment().setChestplate(newItem);
-        newItem = modifyItem(player.getEquipment().getLeggings(), player, ReforgeReason.JOIN);
-        if (newItem != null) player.getEquipment().setLeggings(newItem);
-        newItem = modifyItem(player.getEquipment().getBoots(), player, ReforgeReason.JOIN);
-        if (newItem != null) player.getEquipment().setBoots(newItem);
-
-        for (int j = 0; j < 9; j++) {
-            newItem = modifyItem(player.getInventory().getItem(j), player, ReforgeReason.JOIN);
-            if (newItem != null) player.getInventory().setItem(j, newItem);
-        }
+        revisionQueue.queueJoin(player);
+    }
+
+    /**
+     * Cheap check used to skip items that do not need an update. It only
+     * compares the item revision ID with the one of its template, which
+     * is a map lookup, and does not write anything onto the item.
+     *
+     * @param stack Item to check
+     * @return If the item is an MMOItem older than its template
+     */
+    static boolean isOutdated(@Nullable ItemStack stack) {
+        if (stack == null || !stack.hasItemMeta()) return false;
+
+        final NBTItem nbtItem = NBTItem.get(stack);
+        return nbtItem.hasType() && isOutdated(nbtItem, MMOItems.plugin.getTemplates().getTemplate(nbtItem));
+    }
+
+    private static boolean isOutdated(@NotNull NBTItem nbtItem, @Nullable MMOItemTemplate template) {
 
-        newItem = modifyItem(player.getEquipment().getItemInOffHand(), player, ReforgeReason.JOIN);
-        if (newItem != null) player.getEquipment().setItemInOffHand(newItem);
+        // Its not GooP Converter's VANILLA is it?
+        if (template == null || "VANILLA".equals(nbtItem.getString("MMOITEMS_ITEM_ID")))
+            return false;
+
+        // Greater RevID in template? Go ahead, update!
+        int mmoitemRevision = (nbtItem.hasTag(ItemStats.REVISION_ID.getNBTPath()) ? nbtItem.getInteger(ItemStats.REVISION_ID.getNBTPath()) : 1);
+        return template.getRevisionId() > mmoitemRevision;
     }
 
     @Nullable
-    private static ItemStack modifyItem(@Nullable ItemStack stack, @NotNull Player player, @NotNull ReforgeReason reason) {
+    static ItemStack modifyItem(@Nullable ItemStack stack, @NotNull Player player, @NotNull ReforgeReason reason) {
 
         // Sleep on metaless stacks
         if (stack == null || !stack.hasItemMeta())
             return null;
 
-        // Create a reforger to look at it
-        MMOItemReforger mod = new MMOItemReforger(stack);
-        if (!mod.hasTemplate())
-            return null;
-
-        // Its not GooP Converter's VANILLA is it?
-        if ("VANILLA".equals(mod.getNBTItem().getString("MMOITEMS_ITEM_ID")))
-            return null;
-
         // Disabled in config?
-        if (MMOItems.plugin.getConfig().getBoolean("item-revision.disable-on." + reason.name().toLowerCase()))
+        if (MMOItems.plugin.getLanguage().isRevisionDisabled(reason))
             return null;
 
-        // Greater RevID in template? Go ahead, update!
-        int templateRevision = mod.getTemplate().getRevisionId();
-        int mmoitemRevision = (mod.getNBTItem().hasTag(ItemStats.REVISION_ID.getNBTPath()) ? mod.getNBTItem().getInteger(ItemStats.REVISION_ID.getNBTPath()) : 1);
-        if (templateRevision <= mmoitemRevision)
+        // Up to date with its template?
+        final NBTItem nbtItem = NBTItem.get(stack);
+        if (!nbtItem.hasType() || !isOutdated(nbtItem, MMOItems.plugin.getTemplates().getTemplate(nbtItem)))
             return null;
 
         // All right update then
+        MMOItemReforger mod = new MMOItemReforger(nbtItem);
         if (!mod.reforge(MMOItems.plugin.getLanguage().revisionOptions, player))
             return null;
 
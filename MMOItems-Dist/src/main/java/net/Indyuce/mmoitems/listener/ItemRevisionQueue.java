@@ -0,0 +1,114 @@
+package net.Indyuce.mmoitems.listener;
+
+import io.lumine.mythic.lib.api.item.NBTItem;
+import net.Indyuce.mmoitems.MMOItems;
+import net.Indyuce.mmoitems.reforge.ReforgeReason;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Spreads item revision updates over several ticks. Player inventory
+ * slots are queued instead of being updated right away, then at most
+ * a configurable amount of outdated items is reforged every tick.
+ * <p>
+ * Pickups only remember the type and ID of the picked up item. The
+ * inventory storage is then scanned once on the next tick for items
+ * with these types and IDs, no matter how many items were picked up
+ * in the meantime.
+ *
+ * @see ItemListener#modifyItem(ItemStack, Player, ReforgeReason)
+ */
+public class ItemRevisionQueue extends BukkitRunnable {
+    private final Deque<PendingSlot> pendingSlots = new ArrayDeque<>();
+    private final Map<UUID, Set<String>> pendingScans = new LinkedHashMap<>();
+
+    /**
+     * Slots checked when a player joins: the four armor
+     * slots, the hotbar and the offhand.
+     */
+    private static final int[] JOIN_SLOTS = {39, 38, 37, 36, 0, 1, 2, 3, 4, 5, 6, 7, 8, 40};
+
+    /**
+     * Main inventory storage, scanned after pickups
+     */
+    private static final int STORAGE_SIZE = 36;
+
+    public void queueJoin(@NotNull Player player) {
+        if (MMOItems.plugin.getLanguage().isRevisionDisabled(ReforgeReason.JOIN)) return;
+
+        final PlayerInventory inv = player.getInventory();
+        for (int slot : JOIN_SLOTS)
+            if (ItemListener.isOutdated(inv.getItem(slot)))
+                pendingSlots.add(new PendingSlot(player.getUniqueId(), slot, ReforgeReason.JOIN));
+    }
+
+    /**
+     * @param player Player who picked up the item
+     * @param item   Item picked up
+     */
+    public void queuePickup(@NotNull Player player, @NotNull NBTItem item) {
+        pendingScans.computeIfAbsent(player.getUniqueId(), unused -> new HashSet<>()).add(getKey(item));
+    }
+
+    @NotNull
+    private static String getKey(@NotNull NBTItem item) {
+        return item.getType() + "." + item.getString("MMOITEMS_ITEM_ID");
+    }
+
+    @Override
+    public void run() {
+
+        // Look for outdated items that were picked up
+        if (!pendingScans.isEmpty()) {
+            pendingScans.forEach((uuid, keys) -> {
+                final Player player = Bukkit.getPlayer(uuid);
+                if (player == null) return;
+
+                // Only slots where picked up items could have landed
+                final PlayerInventory inv = player.getInventory();
+                for (int slot = 0; slot < STORAGE_SIZE; slot++) {
+                    final ItemStack item = inv.getItem(slot);
+                    if (item == null || !item.hasItemMeta()) continue;
+
+                    final NBTItem nbtItem = NBTItem.get(item);
+                    if (nbtItem.hasType() && keys.contains(getKey(nbtItem)) && ItemListener.isOutdated(item))
+                        pendingSlots.add(new PendingSlot(uuid, slot, ReforgeReason.PICKUP));
+                }
+            });
+            pendingScans.clear();
+        }
+
+        int budget = MMOItems.plugin.getLanguage().revisionUpdatesPerTick;
+        while (budget > 0 && !pendingSlots.isEmpty()) {
+            final PendingSlot pending = pendingSlots.poll();
+            final Player player = Bukkit.getPlayer(pending.uuid);
+            if (player == null) continue;
+
+            // Item could have been moved around since then
+            final ItemStack current = player.getInventory().getItem(pending.slot);
+            if (!ItemListener.isOutdated(current)) continue;
+
+            final ItemStack newItem = ItemListener.modifyItem(current, player, pending.reason);
+            if (newItem != null) player.getInventory().setItem(pending.slot, newItem);
+            budget--;
+        }
+    }
+
+    private static class PendingSlot {
+        private final UUID uuid;
+        private final int slot;
+        private final ReforgeReason reason;
+
+        PendingSlot(UUID uuid, int slot, ReforgeReason reason) {
+            this.uuid = uuid;
+            this.slot = slot;
+            this.reason = reason;
+        }
+    }
+}
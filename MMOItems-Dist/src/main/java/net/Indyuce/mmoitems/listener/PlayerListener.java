@@ -18,13 +18,13 @@ import io.lumine.mythic.lib.skill.handler.SkillHandler;
 import net.Indyuce.mmoitems.MMOItems;
 import net.Indyuce.mmoitems.api.DeathItemsHandler;
 import net.Indyuce.mmoitems.api.Type;
-import net.Indyuce.mmoitems.api.interaction.projectile.ArrowPotionEffectArrayItem;
+import net.Indyuce.mmoitems.api.interaction.UseItemContext;
+import net.Indyuce.mmoitems.api.interaction.projectile.ProjectilePayload;
 import net.Indyuce.mmoitems.api.interaction.util.InteractItem;
 import net.Indyuce.mmoitems.api.interaction.weapon.Weapon;
 import net.Indyuce.mmoitems.api.player.PlayerData;
 import net.Indyuce.mmoitems.api.util.DeathDowngrading;
 import net.Indyuce.mmoitems.inventory.LoginRefreshSession;
-import net.Indyuce.mmoitems.stat.data.PotionEffectData;
 import net.Indyuce.mmoitems.util.MMOUtils;
 import org.bukkit.Material;
 import org.bukkit.entity.LivingEntity;
@@ -40,7 +40,7 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.potion.PotionEffectType;
+import org.bukkit.potion.PotionEffect;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
@@ -72,9 +72,8 @@ public class PlayerListener implements Listener {
         final PlayerData playerData = PlayerData.getOrNull(event.getEntity());
         if (playerData == null) return;
 
-        // See description of DelayedDeathDowngrade child class for full explanation
-        final Player player = event.getEntity();
-        new DelayedDeathDowngrade(playerData, player).runTaskLater(MMOItems.plugin, 3L);
+        // See description of DeathDowngrading#queueDeathDowngrade for full explanation
+        DeathDowngrading.queueDeathDowngrade(playerData, event.getEntity());
     }
 
     /**
@@ -232,14 +231,14 @@ public class PlayerListener implements Listener {
         if (!item.hasItem())
             return;
 
-        final NBTItem nbtItem = MythicLib.plugin.getVersion().getWrapper().getNBTItem(item.getItem());
-        final Type type = Type.get(nbtItem.getType());
         final PlayerData playerData = PlayerData.getOrNull((Player) event.getEntity().getShooter());
         if (playerData == null) return;
 
-        if (type != null) {
-            final Weapon weapon = new Weapon(playerData, nbtItem);
-            if (!weapon.checkItemRequirements() || !weapon.checkAndApplyWeaponCosts()) {
+        final UseItemContext context = UseItemContext.get(playerData.getPlayer(), item.getItem());
+        final NBTItem nbtItem = context.getNBTItem();
+        if (context.getType() != null) {
+            final Weapon weapon = context.getWeapon(playerData);
+            if (!context.checkItemRequirements(weapon, true) || !weapon.checkAndApplyWeaponCosts()) {
                 event.setCancelled(true);
                 return;
             }
@@ -247,6 +246,7 @@ public class PlayerListener implements Listener {
             final ProjectileMetadata proj = ProjectileMetadata.create(playerData.getMMOPlayerData(), EquipmentSlot.fromBukkit(item.getSlot()), ProjectileType.TRIDENT, event.getEntity());
             proj.setSourceItem(nbtItem);
             proj.setCustomDamage(true);
+            ProjectilePayload.attach(proj);
         }
     }
 
@@ -365,43 +365,8 @@ public class PlayerListener implements Listener {
     }
 
     private void applyPotionEffects(ProjectileMetadata proj, LivingEntity target) {
-        if (proj.getSourceItem().hasTag("MMOITEMS_ARROW_POTION_EFFECTS"))
-            for (ArrowPotionEffectArrayItem entry : MythicLib.plugin.getJson().parse(proj.getSourceItem().getString("MMOITEMS_ARROW_POTION_EFFECTS"), ArrowPotionEffectArrayItem[].class))
-                target.addPotionEffect(new PotionEffectData(PotionEffectType.getByName(entry.type), entry.duration, entry.level).toEffect());
-    }
-
-    /**
-     * Some plugins like to interfere with dropping items when the
-     * player dies, or whatever of that sort.
-     * <p>
-     * MMOItems would hate to dupe items because of this, as such, we wait
-     * 3 ticks for those plugins to reasonably complete their operations and
-     * then downgrade the items the player still has equipped.
-     * <p>
-     * If a plugin removes items in this time, they will be completely excluded
-     * and no dupes will be caused, and if a plugin adds items, they will be
-     * included and downgraded. I think that's reasonable behaviour.
-     *
-     * @author Gunging
-     */
-    private static class DelayedDeathDowngrade extends BukkitRunnable {
-
-        final PlayerData playerData;
-        final Player player;
-
-        DelayedDeathDowngrade(@NotNull PlayerData playerData, @NotNull Player player) {
-            this.player = player;
-            this.playerData = playerData;
-        }
-
-        @Override
-        public void run() {
-            // Check if player is still online before downgrading (absorbed from upstream)
-            if (!playerData.isOnline()) return;
-
-            // Downgrade player's inventory
-            DeathDowngrading.playerDeathDowngrade(playerData, player);
-        }
+        for (PotionEffect effect : ProjectilePayload.get(proj).getPotionEffects())
+            target.addPotionEffect(effect);
     }
 }
 